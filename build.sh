@@ -54,6 +54,15 @@ run() {
     java -cp $BUILD_DIR com.taskflow.Application
 }
 
+run_benchmark() {
+    if [ -z "$1" ]; then
+        echo "Usage: $0 bench <BenchmarkClass> [args...]"
+        exit 1
+    fi
+    echo "Running benchmark $1..."
+    java $BENCH_JAVA_OPTS -cp $BUILD_DIR com.taskflow.benchmark.$1 "${@:2}"
+}
+
 case "$1" in
     clean)
         clean
@@ -73,6 +82,11 @@ case "$1" in
         compile
         run
         ;;
+    bench)
+        clean
+        compile
+        run_benchmark "${@:2}"
+        ;;
     all)
         clean
         compile
@@ -81,7 +95,7 @@ case "$1" in
         run
         ;;
     *)
-        echo "Usage: $0 {clean|compile|test|run|all}"
+        echo "Usage: $0 {clean|compile|test|run|bench|all}"
         exit 1
         ;;
 esac
@@ -1,9 +1,12 @@
 package com.taskflow;
 
 import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
 import com.taskflow.core.domain.Task;
 import com.taskflow.core.domain.TaskStatus;
 import com.taskflow.core.service.TaskService;
+import com.taskflow.metrics.LatencySnapshot;
+import com.taskflow.metrics.ProcessorMetricsSnapshot;
 import com.taskflow.util.ConsoleFormatter;
 import com.taskflow.util.Logger;
 import com.taskflow.util.TaskGenerator;
@@ -129,14 +132,22 @@ public class Application {
             ConsoleFormatter.printInfo("Processing tasks concurrently with thread pool (4 threads)...");
             Logger.info("Starting concurrent processing with 4 threads");
             
-            long startTime = System.currentTimeMillis();
             CompletableFuture<Void> processingFuture = taskService.processAllPendingTasks();
             
             processingFuture.get();
-            long duration = System.currentTimeMillis() - startTime;
-            
-            ConsoleFormatter.printSuccess("Concurrent processing completed in " + duration + "ms");
-            Logger.success("Processing completed in " + duration + "ms");
+            ProcessorMetricsSnapshot metrics = taskService.getProcessingMetrics();
+            
+            ConsoleFormatter.printSuccess(String.format("Concurrent processing completed, %.1f tasks/s",
+                metrics.getThroughputPerSecond()));
+            for (Priority priority : Priority.values()) {
+                LatencySnapshot latency = metrics.getEndToEnd(priority);
+                if (latency.getCount() > 0) {
+                    ConsoleFormatter.printStatistic(priority.name() + " end-to-end p50/p99 (ms)",
+                        latency.getP50() / 1_000_000 + " / " + latency.getP99() / 1_000_000);
+                    Logger.debug(priority.name() + " end-to-end latency: " + latency);
+                }
+            }
+            Logger.success("Processing completed");
             
             System.out.println();
             List<Task> completed = taskService.getTasksByStatus(TaskStatus.COMPLETED);
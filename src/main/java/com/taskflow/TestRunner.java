@@ -1,8 +1,17 @@
 package com.taskflow;
 
+import com.taskflow.cdc.ChangeLogTest;
+import com.taskflow.concurrency.ColumnarTaskRepositoryTest;
+import com.taskflow.concurrency.TaskProcessorTest;
 import com.taskflow.concurrency.ThreadSafeTaskRepositoryTest;
 import com.taskflow.core.domain.TaskTest;
+import com.taskflow.core.service.TaskServiceTest;
+import com.taskflow.persistence.TaskSnapshotTest;
+import com.taskflow.persistence.WriteAheadLogTest;
+import com.taskflow.pipeline.TaskPipelineTest;
 import com.taskflow.sorting.TaskSorterTest;
+import com.taskflow.timer.TimingWheelTest;
+import com.taskflow.util.AsyncLogWriterTest;
 import com.taskflow.util.Logger;
 
 public class TestRunner {
@@ -33,6 +42,51 @@ public class TestRunner {
             passed++;
             Logger.success("ThreadSafeTaskRepositoryTest passed");
             
+            Logger.info("Running ColumnarTaskRepositoryTest");
+            new ColumnarTaskRepositoryTest().runAllTests();
+            passed++;
+            Logger.success("ColumnarTaskRepositoryTest passed");
+            
+            Logger.info("Running WriteAheadLogTest");
+            new WriteAheadLogTest().runAllTests();
+            passed++;
+            Logger.success("WriteAheadLogTest passed");
+            
+            Logger.info("Running TaskSnapshotTest");
+            new TaskSnapshotTest().runAllTests();
+            passed++;
+            Logger.success("TaskSnapshotTest passed");
+            
+            Logger.info("Running TaskServiceTest");
+            new TaskServiceTest().runAllTests();
+            passed++;
+            Logger.success("TaskServiceTest passed");
+            
+            Logger.info("Running ChangeLogTest");
+            new ChangeLogTest().runAllTests();
+            passed++;
+            Logger.success("ChangeLogTest passed");
+            
+            Logger.info("Running TaskProcessorTest");
+            new TaskProcessorTest().runAllTests();
+            passed++;
+            Logger.success("TaskProcessorTest passed");
+            
+            Logger.info("Running TimingWheelTest");
+            new TimingWheelTest().runAllTests();
+            passed++;
+            Logger.success("TimingWheelTest passed");
+            
+            Logger.info("Running TaskPipelineTest");
+            new TaskPipelineTest().runAllTests();
+            passed++;
+            Logger.success("TaskPipelineTest passed");
+            
+            Logger.info("Running AsyncLogWriterTest");
+            new AsyncLogWriterTest().runAllTests();
+            passed++;
+            Logger.success("AsyncLogWriterTest passed");
+            
         } catch (AssertionError e) {
             failed++;
             Logger.error("Test failed: " + e.getMessage(), e);
@@ -0,0 +1,89 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.AdmissionPolicy;
+import com.taskflow.concurrency.TaskProcessor;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.metrics.ProcessorMetricsSnapshot;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+public class AdmissionBenchmark {
+    
+    private static final int DEFAULT_BURST = 1_000_000;
+    private static final int THREADS = 8;
+    private static final int QUEUE_CAPACITY = 1_024;
+    private static final int BLOCKING_BURST = 120;
+    private static final int BLOCKING_CAPACITY = 32;
+    
+    public static void main(String[] args) throws Exception {
+        int burst = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BURST;
+        
+        ConsoleFormatter.printHeader("BURST OF " + burst + " TASKS: UNBOUNDED QUEUE VS BOUNDED ADMISSION");
+        System.out.printf("%d worker threads, ~300ms per task, bounded capacity %d%n", THREADS, QUEUE_CAPACITY);
+        System.out.printf("%-22s %-12s %-14s %-10s %-10s %-10s%n",
+            "Mode", "Submit (ms)", "Heap (MB)", "Queued", "Rejected", "Shed");
+        burst("Unbounded", burst, null);
+        burst("Bounded, REJECT", burst, AdmissionPolicy.REJECT);
+        burst("Bounded, SHED", burst, AdmissionPolicy.SHED_LOWEST_PRIORITY);
+        
+        ConsoleFormatter.printSection("BLOCK: " + BLOCKING_BURST + " tasks into capacity " + BLOCKING_CAPACITY);
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        TaskProcessor processor = TaskProcessor.bounded(repository, THREADS, BLOCKING_CAPACITY, AdmissionPolicy.BLOCK);
+        long start = System.nanoTime();
+        CompletableFuture<Void> batch = processor.processTasks(createTasks(BLOCKING_BURST));
+        long submitted = System.nanoTime() - start;
+        int peakWhileDraining = processor.getMetricsSnapshot().getQueueDepth();
+        batch.get();
+        System.out.printf("processTasks returned after %.0f ms (caller held back), queue depth then %d, "
+            + "all %d completed after %.0f ms%n", submitted / 1e6, peakWhileDraining,
+            processor.getProcessedCount(), (System.nanoTime() - start) / 1e6);
+        processor.shutdown();
+    }
+    
+    private static void burst(String mode, int size, AdmissionPolicy policy) {
+        List<Task> tasks = createTasks(size);
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        TaskProcessor processor = policy == null
+            ? new TaskProcessor(repository, THREADS)
+            : TaskProcessor.bounded(repository, THREADS, QUEUE_CAPACITY, policy);
+        
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+        CompletableFuture<Void> batch = processor.processTasks(tasks);
+        long submitted = System.nanoTime() - start;
+        batch.exceptionally(error -> null);
+        System.gc();
+        long used = runtime.totalMemory() - runtime.freeMemory() - baseline;
+        
+        ProcessorMetricsSnapshot metrics = processor.getMetricsSnapshot();
+        System.out.printf("%-22s %-12.0f %-14.1f %-10d %-10d %-10d%n",
+            mode, submitted / 1e6, used / (1024.0 * 1024.0), metrics.getQueueDepth(),
+            metrics.getRejectedTasks(), metrics.getShedTasks());
+        processor.shutdown();
+    }
+    
+    private static List<Task> createTasks(int size) {
+        Random random = new Random(42);
+        LocalDateTime deadline = LocalDateTime.now().plusDays(1);
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder()
+                .taskId("BURST-" + i)
+                .title("Burst task " + i)
+                .priority(priorities[random.nextInt(priorities.length)])
+                .deadline(deadline)
+                .build());
+        }
+        return tasks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.util.ConsoleFormatter;
+
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Diffs two HotPathSuite result files and exits with status 1 if any benchmark lost more
+// throughput than the threshold (default 10%) beyond the two runs' combined error:
+//   ./build.sh bench BenchmarkCompare baseline.csv current.csv [--threshold 5]
+public class BenchmarkCompare {
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkCompare <baseline.csv> <current.csv> [--threshold percent]");
+            System.exit(2);
+        }
+        double threshold = 10.0;
+        if (args.length >= 4 && args[2].equals("--threshold")) {
+            threshold = Double.parseDouble(args[3]);
+        }
+        
+        Map<String, BenchmarkResult> baseline = new LinkedHashMap<>();
+        for (BenchmarkResult result : BenchmarkResult.readCsv(Paths.get(args[0]))) {
+            baseline.put(result.key(), result);
+        }
+        List<BenchmarkResult> current = BenchmarkResult.readCsv(Paths.get(args[1]));
+        
+        ConsoleFormatter.printHeader("BENCHMARK COMPARISON");
+        System.out.printf("%-48s %-8s %-14s %-14s %-10s %s%n", "Benchmark", "Threads", "Baseline", "Current", "Change", "");
+        int regressions = 0;
+        for (BenchmarkResult now : current) {
+            BenchmarkResult before = baseline.remove(now.key());
+            String label = now.getBenchmark() + (now.getParams().isEmpty() ? "" : " " + now.getParams().values());
+            if (before == null) {
+                System.out.printf("%-48s %-8d %-14s %-14.1f %-10s%n", label, now.getThreads(), "-", now.getScore(), "new");
+                continue;
+            }
+            double change = (now.getScore() - before.getScore()) / before.getScore() * 100.0;
+            boolean regressed = change < -threshold && !withinError(before, now);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-48s %-8d %-14.1f %-14.1f %+-9.1f%% %s%n", label, now.getThreads(),
+                before.getScore(), now.getScore(), change, regressed ? "REGRESSION" : "");
+        }
+        for (BenchmarkResult missing : baseline.values()) {
+            System.out.printf("%-48s %-8d %-14.1f %-14s %-10s%n",
+                missing.getBenchmark(), missing.getThreads(), missing.getScore(), "-", "missing");
+        }
+        
+        ConsoleFormatter.printSection(regressions + " regression(s) beyond " + threshold + "%");
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+    
+    // The drop is noise if the two 99.9% intervals still overlap.
+    private static boolean withinError(BenchmarkResult before, BenchmarkResult now) {
+        if (Double.isNaN(before.getError()) || Double.isNaN(now.getError())) {
+            return false;
+        }
+        return now.getScore() + now.getError() >= before.getScore() - before.getError();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package com.taskflow.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// One benchmark's samples, and the CSV layout JMH writes with -rf csv so existing
+// tooling can read the files. Params are "key=value" pairs separated by commas.
+final class BenchmarkResult {
+    
+    static final String MODE = "thrpt";
+    static final String UNIT = "ops/s";
+    
+    // Two-sided Student t quantiles at 99.9% for 1 to 10 degrees of freedom, as JMH
+    // uses for its score error; larger sample counts fall back to the normal quantile.
+    private static final double[] T_999 = {
+        636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587
+    };
+    private static final double Z_999 = 3.291;
+    
+    private final String benchmark;
+    private final Map<String, String> params;
+    private final int threads;
+    private final int samples;
+    private final double score;
+    private final double error;
+    
+    BenchmarkResult(String benchmark, String params, int threads, double[] samples) {
+        this(benchmark, parseParams(params), threads, samples.length, mean(samples), error(samples));
+    }
+    
+    private BenchmarkResult(String benchmark, Map<String, String> params, int threads, int samples,
+                            double score, double error) {
+        this.benchmark = benchmark;
+        this.params = params;
+        this.threads = threads;
+        this.samples = samples;
+        this.score = score;
+        this.error = error;
+    }
+    
+    String getBenchmark() {
+        return benchmark;
+    }
+    
+    Map<String, String> getParams() {
+        return params;
+    }
+    
+    int getThreads() {
+        return threads;
+    }
+    
+    double getScore() {
+        return score;
+    }
+    
+    double getError() {
+        return error;
+    }
+    
+    // Identifies the same measurement across two result files.
+    String key() {
+        return benchmark + params + "@" + threads;
+    }
+    
+    static void writeCsv(Path path, List<BenchmarkResult> results) throws IOException {
+        Set<String> paramNames = new LinkedHashSet<>();
+        for (BenchmarkResult result : results) {
+            paramNames.addAll(result.params.keySet());
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            out.write("\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\",\"Unit\"");
+            for (String name : paramNames) {
+                out.write(",\"Param: " + name + "\"");
+            }
+            out.write("\n");
+            for (BenchmarkResult result : results) {
+                out.write(String.format(Locale.ROOT, "\"%s\",\"%s\",%d,%d,%.6f,%.6f,\"%s\"",
+                    result.benchmark, MODE, result.threads, result.samples, result.score, result.error, UNIT));
+                for (String name : paramNames) {
+                    String value = result.params.get(name);
+                    out.write(value == null ? "," : ",\"" + value + "\"");
+                }
+                out.write("\n");
+            }
+        }
+    }
+    
+    static List<BenchmarkResult> readCsv(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            throw new IOException("Empty benchmark result file: " + path);
+        }
+        List<String> header = splitCsv(lines.get(0));
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = splitCsv(line);
+            Map<String, String> params = new LinkedHashMap<>();
+            for (int i = 7; i < header.size() && i < fields.size(); i++) {
+                if (!fields.get(i).isEmpty()) {
+                    params.put(header.get(i).substring("Param: ".length()), fields.get(i));
+                }
+            }
+            try {
+                results.add(new BenchmarkResult(fields.get(0), params, Integer.parseInt(fields.get(2)),
+                    Integer.parseInt(fields.get(3)), Double.parseDouble(fields.get(4)), Double.parseDouble(fields.get(5))));
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IOException("Malformed benchmark result line in " + path + ": " + line, e);
+            }
+        }
+        return results;
+    }
+    
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    private static Map<String, String> parseParams(String params) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        if (params == null || params.isEmpty()) {
+            return parsed;
+        }
+        for (String pair : params.split(",")) {
+            int separator = pair.indexOf('=');
+            parsed.put(pair.substring(0, separator), pair.substring(separator + 1));
+        }
+        return parsed;
+    }
+    
+    private static double mean(double[] samples) {
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        return sum / samples.length;
+    }
+    
+    private static double error(double[] samples) {
+        int n = samples.length;
+        if (n < 2) {
+            return Double.NaN;
+        }
+        double mean = mean(samples);
+        double squares = 0;
+        for (double sample : samples) {
+            squares += (sample - mean) * (sample - mean);
+        }
+        double standardError = Math.sqrt(squares / (n - 1)) / Math.sqrt(n);
+        double quantile = n - 1 <= T_999.length ? T_999[n - 2] : Z_999;
+        return quantile * standardError;
+    }
+}
\ No newline at end of file
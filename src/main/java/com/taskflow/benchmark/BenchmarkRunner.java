@@ -0,0 +1,96 @@
+package com.taskflow.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Throughput harness in the style of JMH's thrpt mode, for a build with no external
+// dependencies. Each measurement runs warmup iterations, then measured iterations of a
+// fixed length, with every thread calling the operation in a loop; a sample is the
+// operations per second of one iteration. Results are sunk into a shared counter so
+// the JIT cannot drop the work. There is no forking, so run the suite in a fresh JVM.
+final class BenchmarkRunner {
+    
+    private final int warmupIterations;
+    private final int measuredIterations;
+    private final long iterationMillis;
+    private final AtomicLong sink;
+    
+    BenchmarkRunner(int warmupIterations, int measuredIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+        this.iterationMillis = iterationMillis;
+        this.sink = new AtomicLong();
+    }
+    
+    BenchmarkResult run(String name, String params, int threads, int operationsPerInvocation,
+                        Operation operation) throws InterruptedException {
+        double[] samples = new double[measuredIterations];
+        for (int iteration = -warmupIterations; iteration < measuredIterations; iteration++) {
+            double opsPerSecond = iterate(threads, operation) * operationsPerInvocation;
+            if (iteration >= 0) {
+                samples[iteration] = opsPerSecond;
+            }
+        }
+        return new BenchmarkResult(name, params, threads, samples);
+    }
+    
+    private double iterate(int threadCount, Operation operation) throws InterruptedException {
+        CyclicBarrier start = new CyclicBarrier(threadCount + 1);
+        AtomicLong invocations = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        long[] deadline = new long[1];
+        List<Thread> workers = new ArrayList<>(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            final int threadIndex = t;
+            Thread worker = new Thread(() -> {
+                long done = 0;
+                long checksum = 0;
+                try {
+                    start.await();
+                    long stopAt = deadline[0];
+                    do {
+                        Object result = operation.run(threadIndex);
+                        checksum += result == null ? 0 : result.hashCode();
+                        done++;
+                    } while (System.nanoTime() < stopAt);
+                } catch (InterruptedException | BrokenBarrierException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                    e.printStackTrace();
+                }
+                invocations.addAndGet(done);
+                sink.addAndGet(checksum);
+            }, "bench-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        
+        long began = System.nanoTime();
+        deadline[0] = began + iterationMillis * 1_000_000L;
+        try {
+            start.await();
+        } catch (BrokenBarrierException e) {
+            throw new IllegalStateException("Benchmark threads failed to start", e);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException("Benchmark operation threw; see stack trace above");
+        }
+        return invocations.get() / ((System.nanoTime() - began) / 1_000_000_000.0);
+    }
+    
+    long getSink() {
+        return sink.get();
+    }
+    
+    @FunctionalInterface
+    interface Operation {
+        Object run(int threadIndex) throws Exception;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.service.TaskService;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class BulkIngestBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {100_000, 1_000_000};
+    private static final int ROUNDS = 3;
+    
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        
+        ConsoleFormatter.printHeader("BULK INGEST: createTask LOOP VS createTasks");
+        System.out.printf("%-12s %-12s %-18s %-18s %-10s%n", "Tasks", "Views", "Loop (ms)", "Bulk (ms)", "Speedup");
+        for (int size : sizes) {
+            for (boolean withService : new boolean[] {false, true}) {
+                long loop = Long.MAX_VALUE;
+                long bulk = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    loop = Math.min(loop, ingest(size, withService, false));
+                    bulk = Math.min(bulk, ingest(size, withService, true));
+                }
+                System.out.printf("%-12d %-12d %-18.1f %-18.1f %.1fx%n", size, withService ? 4 : 1,
+                    loop / 1_000_000.0, bulk / 1_000_000.0, (double) loop / Math.max(1, bulk));
+            }
+        }
+    }
+    
+    // The repository keeps one sorted view (its deadline index); a TaskService registers
+    // three more, and every add updates each of them.
+    private static long ingest(int size, boolean withService, boolean bulk) {
+        List<Task> tasks = createTasks(size);
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        TaskService service = withService ? new TaskService(repository, 1) : null;
+        System.gc();
+        
+        long start = System.nanoTime();
+        if (bulk) {
+            repository.addTasks(tasks);
+        } else {
+            for (Task task : tasks) {
+                repository.addTask(task);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        
+        if (repository.size() != size) {
+            throw new IllegalStateException("Expected " + size + " tasks, found " + repository.size());
+        }
+        if (service != null) {
+            service.shutdown();
+        }
+        return elapsed;
+    }
+    
+    private static List<Task> createTasks(int size) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder()
+                .taskId("T" + i)
+                .title("Imported task " + i)
+                .priority(priorities[random.nextInt(priorities.length)])
+                .deadline(now.plusMinutes(1 + random.nextInt(60 * 24 * 90)))
+                .build());
+        }
+        return tasks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.cdc.ChangeConsumer;
+import com.taskflow.cdc.ChangeLog;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+public class ChangeLogBenchmark {
+    
+    private static final int DEFAULT_SIZE = 1_000_000;
+    private static final int CHANGES_PER_POLL = 10_000;
+    private static final int POLLS = 5;
+    private static final int PRODUCER_CHANGES = 2_000_000;
+    
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        detectChanges(size);
+        producerCost();
+    }
+    
+    // A downstream cache catching up on CHANGES_PER_POLL reassignments, by diffing a
+    // findAll() copy against its last copy vs by reading the change log.
+    private static void detectChanges(int size) {
+        ThreadSafeTaskRepository repository = populated(size);
+        ChangeLog log = ChangeLog.attach(repository, ChangeLog.DEFAULT_CAPACITY);
+        ChangeConsumer consumer = log.subscribe();
+        List<Task> tasks = repository.findAll();
+        Map<String, String> known = assignees(repository.findAll());
+        Random random = new Random(42);
+        
+        ConsoleFormatter.printHeader("DETECTING " + CHANGES_PER_POLL + " CHANGES IN " + size + " TASKS: DIFF VS CHANGE LOG");
+        System.out.printf("%-8s %-16s %-16s %-16s %-16s%n", "Poll", "Diff (ms)", "Diff found", "Log (ms)", "Log found");
+        for (int poll = 1; poll <= POLLS; poll++) {
+            for (int i = 0; i < CHANGES_PER_POLL; i++) {
+                tasks.get(random.nextInt(size)).assignTo("user-" + poll + "-" + i);
+            }
+            
+            long start = System.nanoTime();
+            Map<String, String> current = assignees(repository.findAll());
+            int diffFound = 0;
+            for (Map.Entry<String, String> entry : current.entrySet()) {
+                if (!Objects.equals(entry.getValue(), known.get(entry.getKey()))) {
+                    diffFound++;
+                }
+            }
+            known = current;
+            long diff = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            int[] logFound = new int[1];
+            while (consumer.poll(event -> logFound[0]++, 4_096) > 0) {
+                // drain
+            }
+            long read = System.nanoTime() - start;
+            
+            System.out.printf("%-8d %-16.2f %-16d %-16.2f %-16d%n",
+                poll, diff / 1_000_000.0, diffFound, read / 1_000_000.0, logFound[0]);
+        }
+    }
+    
+    // Reassignments on one thread with no log, a log nobody reads, a log whose only
+    // consumer never polls, and a log with two consumers draining on their own threads.
+    private static void producerCost() throws InterruptedException {
+        ConsoleFormatter.printHeader("PRODUCER COST PER CHANGE");
+        System.out.printf("%-28s %-14s %-16s%n", "Setup", "ns/change", "Consumer lag");
+        for (int setup = 0; setup < 4; setup++) {
+            ThreadSafeTaskRepository repository = populated(10_000);
+            ChangeLog log = setup == 0 ? null : ChangeLog.attach(repository, ChangeLog.DEFAULT_CAPACITY);
+            ChangeConsumer stalled = setup == 2 ? log.subscribe() : null;
+            AtomicBoolean running = new AtomicBoolean(true);
+            List<Thread> readers = new ArrayList<>();
+            if (setup == 3) {
+                for (int r = 0; r < 2; r++) {
+                    ChangeConsumer consumer = log.subscribe();
+                    Thread reader = new Thread(() -> drain(consumer, running), "cdc-reader-" + r);
+                    readers.add(reader);
+                    reader.start();
+                }
+            }
+            
+            List<Task> tasks = repository.findAll();
+            for (int i = 0; i < PRODUCER_CHANGES / 10; i++) {
+                tasks.get(i % tasks.size()).assignTo("warmup");
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < PRODUCER_CHANGES; i++) {
+                tasks.get(i % tasks.size()).assignTo((i & 1) == 0 ? "alice" : "bob");
+            }
+            long elapsed = System.nanoTime() - start;
+            running.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+            
+            String[] names = {"No change log", "Log, no consumers", "Log, stalled consumer", "Log, 2 draining consumers"};
+            System.out.printf("%-28s %-14.1f %-16s%n", names[setup], (double) elapsed / PRODUCER_CHANGES,
+                stalled != null ? String.valueOf(stalled.getLag()) : "-");
+        }
+    }
+    
+    private static void drain(ChangeConsumer consumer, AtomicBoolean running) {
+        while (running.get()) {
+            try {
+                if (consumer.poll(event -> { }, 1_024) == 0) {
+                    LockSupport.parkNanos(50_000);
+                }
+            } catch (IllegalStateException lapped) {
+                consumer.seek(consumer.getNextSequence() + consumer.getLag());
+            }
+        }
+    }
+    
+    private static Map<String, String> assignees(List<Task> tasks) {
+        Map<String, String> assignees = new HashMap<>(tasks.size() * 2);
+        for (Task task : tasks) {
+            assignees.put(task.getTaskId(), task.getAssignedTo());
+        }
+        return assignees;
+    }
+    
+    private static ThreadSafeTaskRepository populated(int size) {
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        LocalDateTime deadline = LocalDateTime.now().plusDays(7);
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder()
+                .taskId("C" + i)
+                .title("Change task " + i)
+                .deadline(deadline)
+                .build());
+        }
+        repository.addTasks(tasks);
+        return repository;
+    }
+}
\ No newline at end of file
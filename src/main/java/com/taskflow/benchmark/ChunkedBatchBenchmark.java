@@ -0,0 +1,77 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.TaskProcessor;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+public class ChunkedBatchBenchmark {
+    
+    private static final int SUBMIT_BATCH = 1_000_000;
+    private static final int SUBMIT_THREADS = 4;
+    private static final int COMPLETION_BATCH = 4_000;
+    private static final int COMPLETION_THREADS = 400;
+    
+    public static void main(String[] args) throws Exception {
+        ConsoleFormatter.printHeader("PER-TASK FUTURES VS CHUNKED BATCH SUBMISSION");
+        
+        ConsoleFormatter.printSection("Submission cost: " + SUBMIT_BATCH + " tasks, " + SUBMIT_THREADS + " threads");
+        System.out.printf("%-12s %-18s %-18s%n", "Mode", "Allocated (MB)", "Submit time (ms)");
+        submission("per-task", TaskProcessor::processTasks);
+        submission("chunked", TaskProcessor::processTasksInChunks);
+        
+        ConsoleFormatter.printSection("Completion: " + COMPLETION_BATCH + " tasks, " + COMPLETION_THREADS + " threads");
+        System.out.printf("%-12s %-18s%n", "Mode", "Completion (ms)");
+        completion("per-task", TaskProcessor::processTasks);
+        completion("chunked", TaskProcessor::processTasksInChunks);
+    }
+    
+    private static void submission(String mode, BiFunction<TaskProcessor, List<Task>, CompletableFuture<Void>> submit) {
+        List<Task> tasks = createTasks(SUBMIT_BATCH);
+        TaskProcessor processor = new TaskProcessor(new ThreadSafeTaskRepository(), SUBMIT_THREADS);
+        
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        submit.apply(processor, tasks);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        
+        processor.shutdown();
+        System.out.printf("%-12s %-18.1f %-18.1f%n",
+            mode, allocated / (1024.0 * 1024.0), elapsed / 1_000_000.0);
+    }
+    
+    private static void completion(String mode, BiFunction<TaskProcessor, List<Task>, CompletableFuture<Void>> submit)
+            throws Exception {
+        List<Task> tasks = createTasks(COMPLETION_BATCH);
+        TaskProcessor processor = new TaskProcessor(new ThreadSafeTaskRepository(), COMPLETION_THREADS);
+        
+        long start = System.nanoTime();
+        submit.apply(processor, tasks).get();
+        long elapsed = System.nanoTime() - start;
+        
+        processor.shutdown();
+        System.out.printf("%-12s %-18.1f%n", mode, elapsed / 1_000_000.0);
+    }
+    
+    private static List<Task> createTasks(int count) {
+        LocalDateTime deadline = LocalDateTime.now().plusDays(1);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder()
+                .taskId("CHUNK-" + i)
+                .title("Chunked task " + i)
+                .deadline(deadline)
+                .build());
+        }
+        return tasks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.ColumnarTaskRepository;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.sorting.TaskComparator;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class ColumnarStoreBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {1_000_000};
+    private static final int PENDING_EVERY = 100;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int ROUNDS = 5;
+    private static final Priority[] PRIORITIES = Priority.values();
+    
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        
+        ConsoleFormatter.printHeader("HISTORICAL TASKS: ON-HEAP REPOSITORY VS OFF-HEAP COLUMNS");
+        System.out.printf("%-10s %-12s %-10s %-10s %-14s %-16s %-14s %-14s%n",
+            "Tasks", "Store", "Heap MB", "Direct MB", "Full GC (ms)", "1% status (ms)", "Count (ms)", "Sort (ms)");
+        
+        for (int size : sizes) {
+            measureRepository(size);
+            measureColumnar(size);
+        }
+    }
+    
+    private static void measureRepository(int size) {
+        long before = usedHeap();
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        populate(size, repository::addTask);
+        long heap = usedHeap() - before;
+        
+        report(size, "repository", heap, 0, fullGcMillis(),
+            median(() -> repository.findByStatus(TaskStatus.PENDING)),
+            median(() -> repository.findByStatus(TaskStatus.PENDING).size()),
+            median(() -> {
+                List<Task> all = repository.findAll();
+                all.sort(TaskComparator.byDeadline());
+                return all.get(0);
+            }));
+    }
+    
+    private static void measureColumnar(int size) {
+        long before = usedHeap();
+        ColumnarTaskRepository store = new ColumnarTaskRepository();
+        populate(size, store::addTask);
+        long heap = usedHeap() - before;
+        
+        report(size, "columnar", heap, store.getOffHeapBytes(), fullGcMillis(),
+            median(() -> store.findByStatus(TaskStatus.PENDING)),
+            median(() -> store.countByStatus(TaskStatus.PENDING)),
+            median(() -> store.sortedByDeadline().get(0)));
+    }
+    
+    // Completed history with 1% still pending, a thousand distinct titles and a
+    // handful of assignees, which is what the dictionaries are meant to exploit.
+    private static void populate(int size, Consumer<Task> sink) {
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < size; i++) {
+            sink.accept(Task.builder()
+                .taskId(String.format("%08x", i))
+                .title("Report " + (i % 1_000))
+                .priority(PRIORITIES[i % PRIORITIES.length])
+                .deadline(base.plusSeconds((i * 7919L) % 31_536_000))
+                .status(i % PENDING_EVERY == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED)
+                .assignedTo("user-" + (i % 50))
+                .build());
+        }
+    }
+    
+    private static void report(int size, String store, long heapBytes, long directBytes, double gcMillis,
+                               double statusMillis, double countMillis, double sortMillis) {
+        System.out.printf("%-10d %-12s %-10.0f %-10.0f %-14.1f %-16.1f %-14.2f %-14.0f%n",
+            size, store, heapBytes / 1048576.0, directBytes / 1048576.0, gcMillis,
+            statusMillis, countMillis, sortMillis);
+    }
+    
+    private static double median(Supplier<?> query) {
+        long[] samples = new long[ROUNDS];
+        for (int round = -WARMUP_ROUNDS; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            if (query.get() == null) {
+                throw new IllegalStateException("Benchmark query returned nothing");
+            }
+            if (round >= 0) {
+                samples[round] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples[ROUNDS / 2] / 1_000_000.0;
+    }
+    
+    // Wall time of one full collection with the store live: what a pause costs when
+    // the collector has to trace every task.
+    private static double fullGcMillis() {
+        long collections = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections += bean.getCollectionCount();
+        }
+        long start = System.nanoTime();
+        System.gc();
+        long elapsed = System.nanoTime() - start;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections -= bean.getCollectionCount();
+        }
+        if (collections == 0) {
+            throw new IllegalStateException("System.gc() did not run a collection");
+        }
+        return elapsed / 1_000_000.0;
+    }
+    
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.TaskProcessor;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.core.service.TaskService;
+import com.taskflow.sorting.TaskComparator;
+import com.taskflow.sorting.TaskSorter;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+// Throughput of the repository, sorter, service queries and batch processor, written as
+// a JMH-style CSV so two runs can be diffed with BenchmarkCompare:
+//   ./build.sh bench HotPathSuite [--quick] [--filter regex] [--out results.csv]
+public class HotPathSuite {
+    
+    private static final int[] THREAD_COUNTS = {1, 4, 16};
+    private static final int REPOSITORY_SIZE = 100_000;
+    private static final int PROCESSOR_BATCH = 32;
+    private static final int PROCESSOR_THREADS = 32;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    
+    private final BenchmarkRunner runner;
+    private final BenchmarkRunner processorRunner;
+    private final Pattern filter;
+    private final int sortSize;
+    private final List<BenchmarkResult> results;
+    
+    private HotPathSuite(boolean quick, Pattern filter) {
+        this.runner = quick ? new BenchmarkRunner(1, 3, 200) : new BenchmarkRunner(3, 5, 1_000);
+        // Each processTask call sleeps for 300 ms, so a batch iteration needs a few seconds.
+        this.processorRunner = quick ? new BenchmarkRunner(0, 2, 700) : new BenchmarkRunner(1, 5, 3_000);
+        this.filter = filter;
+        this.sortSize = quick ? 2_000 : 10_000;
+        this.results = new ArrayList<>();
+    }
+    
+    public static void main(String[] args) throws Exception {
+        boolean quick = false;
+        Pattern filter = Pattern.compile(".*");
+        Path out = Paths.get("benchmark-results.csv");
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--quick" -> quick = true;
+                case "--filter" -> filter = Pattern.compile(args[++i]);
+                case "--out" -> out = Paths.get(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        
+        HotPathSuite suite = new HotPathSuite(quick, filter);
+        ConsoleFormatter.printHeader("HOT PATH SUITE");
+        System.out.printf("%-48s %-44s %-8s %-14s %-12s%n", "Benchmark", "Params", "Threads", "Score (ops/s)", "Error");
+        suite.repository();
+        suite.sorting();
+        suite.service();
+        suite.processor();
+        
+        BenchmarkResult.writeCsv(out, suite.results);
+        ConsoleFormatter.printSection("Results written to " + out + " (sink " + suite.sinkChecksum() + ")");
+    }
+    
+    private void repository() throws InterruptedException {
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        List<Task> tasks = createTasks("REPO-", REPOSITORY_SIZE);
+        tasks.forEach(repository::addTask);
+        String size = "size=" + REPOSITORY_SIZE;
+        
+        for (int threads : THREAD_COUNTS) {
+            long[] counters = new long[threads * 16];
+            measure(runner, "repository.addRemove", size, threads, 2, threadIndex -> {
+                String id = "ADD-" + threadIndex + "-" + counters[threadIndex * 16]++;
+                repository.addTask(Task.builder().taskId(id).title(id).deadline(tasks.get(0).getDeadline()).build());
+                return repository.removeTask(id);
+            });
+            measure(runner, "repository.findById", size, threads, 1, threadIndex ->
+                repository.findById(tasks.get(ThreadLocalRandom.current().nextInt(REPOSITORY_SIZE)).getTaskId()));
+            measure(runner, "repository.findByStatus", size, threads, 1, threadIndex ->
+                repository.findByStatus(STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]).size());
+        }
+    }
+    
+    private void sorting() throws InterruptedException {
+        List<Task> tasks = createTasks("SORT-", sortSize);
+        TaskSorter sorter = new TaskSorter();
+        Map<String, Comparator<Task>> comparators = new LinkedHashMap<>();
+        comparators.put("byPriority", TaskComparator.byPriority());
+        comparators.put("byDeadline", TaskComparator.byDeadline());
+        comparators.put("byCreationDate", TaskComparator.byCreationDate());
+        comparators.put("byTitle", TaskComparator.byTitle());
+        comparators.put("byStatus", TaskComparator.byStatus());
+        comparators.put("byPriorityThenDeadline", TaskComparator.byPriorityThenDeadline());
+        
+        for (Map.Entry<String, Comparator<Task>> entry : comparators.entrySet()) {
+            String params = "size=" + sortSize + ",comparator=" + entry.getKey();
+            Comparator<Task> comparator = entry.getValue();
+            measure(runner, "sort.taskSorter", params, 1, 1, threadIndex -> sorter.sort(tasks, comparator).get(0));
+            measure(runner, "sort.listSort", params, 1, 1, threadIndex -> {
+                List<Task> sorted = new ArrayList<>(tasks);
+                sorted.sort(comparator);
+                return sorted.get(0);
+            });
+        }
+    }
+    
+    private void service() throws InterruptedException {
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        TaskService service = new TaskService(repository, 1);
+        List<Task> tasks = createTasks("SVC-", REPOSITORY_SIZE);
+        tasks.forEach(service::createTask);
+        String size = "size=" + REPOSITORY_SIZE;
+        Duration week = Duration.ofDays(7);
+        
+        for (int threads : new int[] {1, 4}) {
+            measure(runner, "service.getTask", size, threads, 1, threadIndex ->
+                service.getTask(tasks.get(ThreadLocalRandom.current().nextInt(REPOSITORY_SIZE)).getTaskId()));
+            measure(runner, "service.getTasksByStatus", size, threads, 1, threadIndex ->
+                service.getTasksByStatus(TaskStatus.PENDING).size());
+            measure(runner, "service.getTasksSortedByPriority", size, threads, 1, threadIndex ->
+                service.getTasksSortedByPriority().size());
+            measure(runner, "service.getTasksSortedByDeadline", size, threads, 1, threadIndex ->
+                service.getTasksSortedByDeadline().size());
+            measure(runner, "service.getTasksSortedByPriorityAndDeadline", size, threads, 1, threadIndex ->
+                service.getTasksSortedByPriorityAndDeadline().size());
+            measure(runner, "service.getOverdueTasks", size, threads, 1, threadIndex ->
+                service.getOverdueTasks().size());
+            measure(runner, "service.getTasksDueWithin", size + ",window=P7D", threads, 1, threadIndex ->
+                service.getTasksDueWithin(week).size());
+            measure(runner, "service.getHighPriorityTasks", size, threads, 1, threadIndex ->
+                service.getHighPriorityTasks().size());
+            measure(runner, "service.topK", size + ",k=10", threads, 1, threadIndex ->
+                service.topK(TaskComparator.byPriorityThenDeadline(), 10).get(0));
+        }
+        service.shutdown();
+    }
+    
+    // One invocation processes a fresh batch to completion; the score is tasks per second.
+    private void processor() throws InterruptedException {
+        String params = "batch=" + PROCESSOR_BATCH + ",poolThreads=" + PROCESSOR_THREADS;
+        TaskProcessor processor = new TaskProcessor(new ThreadSafeTaskRepository(), PROCESSOR_THREADS);
+        measure(processorRunner, "processor.processTasks", params, 1, PROCESSOR_BATCH, threadIndex -> {
+            processor.processTasks(pendingBatch("PROC-")).get();
+            return null;
+        });
+        measure(processorRunner, "processor.processTasksInChunks", params, 1, PROCESSOR_BATCH, threadIndex -> {
+            processor.processTasksInChunks(pendingBatch("CHUNK-")).get();
+            return null;
+        });
+        processor.shutdown();
+    }
+    
+    private void measure(BenchmarkRunner with, String name, String params, int threads, int operationsPerInvocation,
+                         BenchmarkRunner.Operation operation) throws InterruptedException {
+        if (!filter.matcher(name).find()) {
+            return;
+        }
+        BenchmarkResult result = with.run(name, params, threads, operationsPerInvocation, operation);
+        results.add(result);
+        System.out.printf("%-48s %-44s %-8d %-14.1f %-12.1f%n",
+            name, params, threads, result.getScore(), result.getError());
+    }
+    
+    private long sinkChecksum() {
+        return runner.getSink() ^ processorRunner.getSink();
+    }
+    
+    private static List<Task> createTasks(String prefix, int count) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder()
+                .taskId(prefix + i)
+                .title("Task " + random.nextInt(count))
+                .priority(priorities[random.nextInt(priorities.length)])
+                .status(STATUSES[random.nextInt(STATUSES.length)])
+                .deadline(now.plusMinutes(random.nextInt(60 * 24 * 60) - 60 * 24 * 7))
+                .buildRestored());
+        }
+        return tasks;
+    }
+    
+    private static List<Task> pendingBatch(String prefix) {
+        LocalDateTime deadline = LocalDateTime.now().plusDays(1);
+        List<Task> batch = new ArrayList<>(PROCESSOR_BATCH);
+        for (int i = 0; i < PROCESSOR_BATCH; i++) {
+            batch.add(Task.builder().taskId(prefix + i).title("Batch task " + i).deadline(deadline).build());
+        }
+        return batch;
+    }
+}
\ No newline at end of file
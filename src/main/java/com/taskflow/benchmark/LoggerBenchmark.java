@@ -0,0 +1,72 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.util.ConsoleFormatter;
+import com.taskflow.util.LogOverflowPolicy;
+import com.taskflow.util.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class LoggerBenchmark {
+    
+    private static final int[] PRODUCER_COUNTS = {1, 2, 4, 8, 16, 32};
+    private static final int MESSAGES_PER_RUN = 200_000;
+    private static final int RING_CAPACITY = 1 << 16;
+    
+    public static void main(String[] args) throws InterruptedException {
+        ConsoleFormatter.printHeader("LOGGER THROUGHPUT: SYNCHRONOUS VS ASYNC RING BUFFER");
+        System.out.printf("%d debug messages per run, ring capacity %d%n", MESSAGES_PER_RUN, RING_CAPACITY);
+        System.out.printf("%-10s %-18s %-22s %-22s %-10s%n",
+            "Producers", "Sync (msg/s)", "Async block (msg/s)", "Async drop (msg/s)", "Dropped");
+        
+        for (int producers : PRODUCER_COUNTS) {
+            double sync = measure(producers);
+            
+            Logger.enableAsync(RING_CAPACITY, LogOverflowPolicy.BLOCK);
+            double blocking = measure(producers);
+            Logger.disableAsync();
+            
+            Logger.enableAsync(RING_CAPACITY, LogOverflowPolicy.DROP);
+            double dropping = measure(producers);
+            long dropped = Logger.getDroppedCount();
+            Logger.disableAsync();
+            
+            System.out.printf("%-10d %-18.0f %-22.0f %-22.0f %-10d%n",
+                producers, sync, blocking, dropping, dropped);
+        }
+        Logger.close();
+    }
+    
+    // Time until every producer has handed off its messages; the async drain on
+    // disableAsync() is deliberately excluded, as callers never wait for it.
+    private static double measure(int producers) throws InterruptedException {
+        int perProducer = MESSAGES_PER_RUN / producers;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int producerId = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    Logger.debug("producer " + producerId + " message " + i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - began) / 1_000_000_000.0;
+        return perProducer * producers / seconds;
+    }
+}
\ No newline at end of file
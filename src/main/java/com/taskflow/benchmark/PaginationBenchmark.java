@@ -0,0 +1,102 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.service.PageCursor;
+import com.taskflow.core.service.TaskOrder;
+import com.taskflow.core.service.TaskPage;
+import com.taskflow.core.service.TaskService;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+public class PaginationBenchmark {
+    
+    private static final int DEFAULT_SIZE = 1_000_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int[] PAGE_NUMBERS = {1, 100, 1_000, 10_000, 19_999};
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 20;
+    
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        TaskService service = new TaskService(new ThreadSafeTaskRepository(), 1);
+        service.createTasks(createTasks(size));
+        
+        ConsoleFormatter.printHeader("PAGINATION: OFFSET INTO SORTED LIST VS KEYSET CURSOR (" + size + " tasks)");
+        System.out.printf("%-10s %-16s %-20s %-16s %-20s%n",
+            "Page", "Offset (ms)", "Offset alloc (KB)", "Cursor (ms)", "Cursor alloc (KB)");
+        for (int pageNumber : PAGE_NUMBERS) {
+            if ((long) pageNumber * PAGE_SIZE > size) {
+                continue;
+            }
+            int offset = (pageNumber - 1) * PAGE_SIZE;
+            PageCursor cursor = cursorBefore(service, pageNumber);
+            IntSupplier offsetQuery = () -> {
+                List<Task> sorted = service.getTasksSortedByDeadline();
+                return new ArrayList<>(sorted.subList(offset, Math.min(sorted.size(), offset + PAGE_SIZE))).size();
+            };
+            IntSupplier cursorQuery = () -> service.page(TaskOrder.DEADLINE, cursor, PAGE_SIZE).getTasks().size();
+            for (int i = 0; i < WARMUP; i++) {
+                offsetQuery.getAsInt();
+                cursorQuery.getAsInt();
+            }
+            long[] byOffset = measure(offsetQuery);
+            long[] byCursor = measure(cursorQuery);
+            System.out.printf("%-10d %-16.3f %-20.1f %-16.3f %-20.1f%n", pageNumber,
+                byOffset[0] / 1_000_000.0, byOffset[1] / 1024.0, byCursor[0] / 1_000_000.0, byCursor[1] / 1024.0);
+        }
+        service.shutdown();
+    }
+    
+    // Walks the pages before the one to measure, untimed, to get the cursor a client
+    // would hold when asking for it.
+    private static PageCursor cursorBefore(TaskService service, int pageNumber) {
+        PageCursor cursor = null;
+        for (int page = 1; page < pageNumber; page++) {
+            TaskPage result = service.page(TaskOrder.DEADLINE, cursor, PAGE_SIZE);
+            cursor = result.getNextCursor().orElseThrow();
+        }
+        return cursor;
+    }
+    
+    // Returns the median time and the bytes allocated per request.
+    private static long[] measure(IntSupplier query) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] times = new long[ITERATIONS];
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            if (query.getAsInt() != PAGE_SIZE) {
+                throw new IllegalStateException("Short page");
+            }
+            times[i] = System.nanoTime() - start;
+        }
+        long allocated = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ITERATIONS;
+        Arrays.sort(times);
+        return new long[] {times[ITERATIONS / 2], allocated};
+    }
+    
+    private static List<Task> createTasks(int size) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder()
+                .taskId("P" + i)
+                .title("Paged task " + i)
+                .priority(priorities[random.nextInt(priorities.length)])
+                .deadline(now.plusMinutes(1 + random.nextInt(60 * 24 * 90)))
+                .build());
+        }
+        return tasks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.LockingMode;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RepositoryContentionBenchmark {
+    
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final int PRELOADED_TASKS = 100_000;
+    private static final long MEASURE_MILLIS = 2_000;
+    private static final int WRITE_PERCENT = 20;
+    
+    public static void main(String[] args) throws InterruptedException {
+        ConsoleFormatter.printHeader("REPOSITORY THROUGHPUT: READ/WRITE LOCK VS LOCK-FREE");
+        System.out.printf("Workload: %d%% add/remove, %d%% findById, %d preloaded tasks%n%n",
+            WRITE_PERCENT, 100 - WRITE_PERCENT, PRELOADED_TASKS);
+        System.out.printf("%-10s %-22s %-22s %-10s%n",
+            "Threads", "RW lock (ops/s)", "Lock-free (ops/s)", "Ratio");
+        
+        for (int threads : THREAD_COUNTS) {
+            double locked = measure(LockingMode.READ_WRITE_LOCK, threads);
+            double lockFree = measure(LockingMode.LOCK_FREE, threads);
+            System.out.printf("%-10d %-22.0f %-22.0f %.2fx%n",
+                threads, locked, lockFree, lockFree / locked);
+        }
+    }
+    
+    private static double measure(LockingMode mode, int threadCount) throws InterruptedException {
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository(mode);
+        LocalDateTime deadline = LocalDateTime.now().plusDays(7);
+        for (int i = 0; i < PRELOADED_TASKS; i++) {
+            repository.addTask(Task.builder()
+                .taskId("PRELOAD-" + i)
+                .title("Preloaded " + i)
+                .deadline(deadline)
+                .build());
+        }
+        
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder operations = new LongAdder();
+        List<Thread> workers = new ArrayList<>();
+        
+        for (int t = 0; t < threadCount; t++) {
+            final int workerId = t;
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Task own = Task.builder()
+                    .taskId("WORKER-" + workerId)
+                    .title("Worker task")
+                    .deadline(deadline)
+                    .build();
+                awaitQuietly(start);
+                long done = 0;
+                while (running.get()) {
+                    if (random.nextInt(100) < WRITE_PERCENT) {
+                        repository.addTask(own);
+                        repository.removeTask(own.getTaskId());
+                        done += 2;
+                    } else {
+                        repository.findById("PRELOAD-" + random.nextInt(PRELOADED_TASKS));
+                        done++;
+                    }
+                }
+                operations.add(done);
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        
+        long began = System.nanoTime();
+        start.countDown();
+        Thread.sleep(MEASURE_MILLIS);
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - began) / 1_000_000_000.0;
+        return operations.sum() / seconds;
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.persistence.TaskSnapshot;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+public class SnapshotBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {1_000_000, 10_000_000};
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        int cores = Runtime.getRuntime().availableProcessors();
+        
+        ConsoleFormatter.printHeader("SNAPSHOT: WRITE TIME, SIZE AND COLD START");
+        System.out.printf("%-12s %-12s %-12s %-20s %-20s %-14s%n",
+            "Tasks", "Write (ms)", "Size (MB)", "Load 1 thread (ms)", "Load all cores (ms)", "Tasks/s");
+        
+        for (int size : sizes) {
+            run(size, cores);
+        }
+    }
+    
+    private static void run(int size, int cores) throws IOException {
+        Path file = Files.createTempFile("taskflow-snapshot-bench", ".bin");
+        try {
+            long writeNanos = populateAndWrite(size, file);
+            long sequentialNanos = coldStart(file, new ForkJoinPool(1));
+            long parallelNanos = coldStart(file, new ForkJoinPool(cores));
+            
+            System.out.printf("%-12d %-12.0f %-12.1f %-20.0f %-20.0f %-14.0f%n",
+                size,
+                writeNanos / 1_000_000.0,
+                Files.size(file) / (1024.0 * 1024.0),
+                sequentialNanos / 1_000_000.0,
+                parallelNanos / 1_000_000.0,
+                size / (parallelNanos / 1_000_000_000.0));
+        } catch (OutOfMemoryError e) {
+            System.out.printf("%-12d out of memory; rerun with a larger -Xmx via BENCH_JAVA_OPTS%n", size);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    private static long populateAndWrite(int size, Path file) throws IOException {
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < size; i++) {
+            repository.addTask(Task.builder()
+                .taskId("SNAP-" + i)
+                .title("Snapshot task " + i)
+                .priority(PRIORITIES[i % PRIORITIES.length])
+                .deadline(base.plusMinutes(i % 10_000))
+                .status(STATUSES[i % STATUSES.length])
+                .assignedTo(i % 3 == 0 ? "user-" + (i % 100) : null)
+                .build());
+        }
+        
+        long start = System.nanoTime();
+        TaskSnapshot.write(repository, file);
+        return System.nanoTime() - start;
+    }
+    
+    // Times everything between an empty JVM-side repository and a fully indexed one:
+    // mapping, checksum, decode and insertion.
+    private static long coldStart(Path file, ForkJoinPool pool) throws IOException {
+        System.gc();
+        try {
+            long start = System.nanoTime();
+            ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+            TaskSnapshot.load(file, repository, pool);
+            return System.nanoTime() - start;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
\ No newline at end of file
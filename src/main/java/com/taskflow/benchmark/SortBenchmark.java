@@ -0,0 +1,94 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.core.domain.Task;
+import com.taskflow.sorting.ParallelTaskSorter;
+import com.taskflow.sorting.TaskComparator;
+import com.taskflow.sorting.TaskSorter;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+public class SortBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int QUICKSORT_PRESORTED_LIMIT = 20_000;
+    private static final int ITERATIONS = 5;
+    
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        
+        ConsoleFormatter.printHeader("QUICKSORT VS PARALLEL MERGE SORT (BY DEADLINE)");
+        System.out.printf("%-10s %-10s %-20s %-20s %-20s%n",
+            "Tasks", "Input", "QuickSort (ms)", "Parallel (ms)", "List.sort (ms)");
+        
+        Comparator<Task> comparator = TaskComparator.byDeadline();
+        TaskSorter quickSort = new TaskSorter();
+        TaskSorter parallel = new ParallelTaskSorter();
+        
+        for (int size : sizes) {
+            List<Task> sorted = createTasks(size);
+            List<Task> random = new ArrayList<>(sorted);
+            Collections.shuffle(random, new Random(42));
+            List<Task> reversed = new ArrayList<>(sorted);
+            Collections.reverse(reversed);
+            
+            report(size, "random", random, quickSort, parallel, comparator, true);
+            report(size, "sorted", sorted, quickSort, parallel, comparator, size <= QUICKSORT_PRESORTED_LIMIT);
+            report(size, "reverse", reversed, quickSort, parallel, comparator, size <= QUICKSORT_PRESORTED_LIMIT);
+        }
+    }
+    
+    private static void report(int size, String input, List<Task> tasks, TaskSorter quickSort,
+                               TaskSorter parallel, Comparator<Task> comparator, boolean runQuickSort) {
+        String quick = runQuickSort ? format(median(() -> quickSort.sort(tasks, comparator))) : "skipped (O(n^2))";
+        String merge = format(median(() -> parallel.sort(tasks, comparator)));
+        String library = format(median(() -> {
+            List<Task> copy = new ArrayList<>(tasks);
+            copy.sort(comparator);
+            return copy;
+        }));
+        System.out.printf("%-10d %-10s %-20s %-20s %-20s%n", size, input, quick, merge, library);
+    }
+    
+    private static long median(SortRun run) {
+        long[] samples = new long[ITERATIONS];
+        run.sort();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            run.sort();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+    
+    private static String format(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+    
+    private static List<Task> createTasks(int count) {
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder()
+                .taskId("SORT-" + i)
+                .title("Sort task " + i)
+                .deadline(base.plusSeconds(i))
+                .build());
+        }
+        return tasks;
+    }
+    
+    @FunctionalInterface
+    private interface SortRun {
+        List<Task> sort();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class StatusIndexBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000, 10_000_000};
+    private static final int PENDING_EVERY = 1_000;
+    private static final int ITERATIONS = 20;
+    
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        
+        ConsoleFormatter.printHeader("FIND BY STATUS: FULL SCAN VS STATUS INDEX");
+        System.out.printf("%-12s %-12s %-18s %-18s %-10s%n",
+            "Tasks", "Pending", "Scan (us)", "Index (us)", "Speedup");
+        
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+    
+    private static void run(int size) {
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        ConcurrentHashMap<String, Task> scanned = new ConcurrentHashMap<>();
+        LocalDateTime deadline = LocalDateTime.now().plusDays(7);
+        
+        for (int i = 0; i < size; i++) {
+            Task task = Task.builder()
+                .taskId("BENCH-" + i)
+                .title("Benchmark task " + i)
+                .deadline(deadline)
+                .status(i % PENDING_EVERY == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED)
+                .build();
+            repository.addTask(task);
+            scanned.put(task.getTaskId(), task);
+        }
+        
+        long scanNanos = median(() -> scanned.values().stream()
+            .filter(task -> task.getStatus() == TaskStatus.PENDING)
+            .collect(Collectors.toList()));
+        long indexNanos = median(() -> repository.findByStatus(TaskStatus.PENDING));
+        
+        System.out.printf("%-12d %-12d %-18.1f %-18.1f %.1fx%n",
+            size,
+            repository.findByStatus(TaskStatus.PENDING).size(),
+            scanNanos / 1_000.0,
+            indexNanos / 1_000.0,
+            (double) scanNanos / Math.max(1, indexNanos));
+    }
+    
+    private static long median(Query query) {
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            List<Task> result = query.run();
+            samples[i] = System.nanoTime() - start;
+            if (result.isEmpty()) {
+                throw new IllegalStateException("Benchmark query returned no tasks");
+            }
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+    
+    @FunctionalInterface
+    private interface Query {
+        List<Task> run();
+    }
+}
\ No newline at end of file
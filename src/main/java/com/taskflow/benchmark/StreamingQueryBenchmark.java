@@ -0,0 +1,76 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.ToLongFunction;
+
+public class StreamingQueryBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {100_000, 1_000_000};
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 20;
+    
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        
+        ConsoleFormatter.printHeader("FILTERED QUERY: findAll() COPY VS LIVE stream()");
+        System.out.printf("%-12s %-12s %-14s %-18s %-14s %-18s%n",
+            "Tasks", "Matches", "Copy (ms)", "Copy alloc (KB)", "Stream (ms)", "Stream alloc (KB)");
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+    
+    private static void run(int size) {
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        LocalDateTime deadline = LocalDateTime.now().plusDays(7);
+        for (int i = 0; i < size; i++) {
+            repository.addTask(Task.builder()
+                .taskId("Q" + i)
+                .title("Query task " + i)
+                .priority(i % 100 == 0 ? Priority.CRITICAL : Priority.LOW)
+                .deadline(deadline)
+                .build());
+        }
+        
+        ToLongFunction<ThreadSafeTaskRepository> copyQuery = repo -> repo.findAll().stream()
+            .filter(task -> task.getPriority() == Priority.CRITICAL)
+            .count();
+        ToLongFunction<ThreadSafeTaskRepository> streamQuery = repo -> repo.stream()
+            .filter(task -> task.getPriority() == Priority.CRITICAL)
+            .count();
+        for (int i = 0; i < WARMUP; i++) {
+            copyQuery.applyAsLong(repository);
+            streamQuery.applyAsLong(repository);
+        }
+        long[] copy = measure(repository, copyQuery);
+        long[] streamed = measure(repository, streamQuery);
+        
+        System.out.printf("%-12d %-12d %-14.2f %-18.1f %-14.2f %-18.1f%n",
+            size, copy[2], copy[0] / 1_000_000.0, copy[1] / 1024.0, streamed[0] / 1_000_000.0, streamed[1] / 1024.0);
+    }
+    
+    // Returns the median time, the bytes allocated per query and the query's result.
+    private static long[] measure(ThreadSafeTaskRepository repository, ToLongFunction<ThreadSafeTaskRepository> query) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long result = 0;
+        long[] times = new long[ITERATIONS];
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            result = query.applyAsLong(repository);
+            times[i] = System.nanoTime() - start;
+        }
+        long allocated = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ITERATIONS;
+        Arrays.sort(times);
+        return new long[] {times[ITERATIONS / 2], allocated, result};
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class TaskIdMapBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {1_000_000, 10_000_000};
+    private static final int LOOKUPS = 1_000_000;
+    private static final int ROUNDS = 7;
+    
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        
+        ConsoleFormatter.printHeader("REPOSITORY FOOTPRINT AND FINDBYID LATENCY");
+        System.out.printf("%-12s %-22s %-22s %-22s%n",
+            "Tasks", "Heap/task (bytes)", "Hit (ns/op)", "Miss (ns/op)");
+        
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+    
+    // IDs use the builder's 8-hex-digit format; creation date, deadline and title are
+    // shared so the per-task heap figure is dominated by the repository's own structures.
+    private static void run(int size) {
+        Task[] tasks = new Task[size];
+        LocalDateTime createdAt = LocalDateTime.now();
+        LocalDateTime deadline = createdAt.plusDays(7);
+        for (int i = 0; i < size; i++) {
+            tasks[i] = Task.builder()
+                .taskId(String.format("%08x", i))
+                .title("Lookup task")
+                .createdAt(createdAt)
+                .deadline(deadline)
+                .build();
+        }
+        
+        long before = usedHeap();
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        for (Task task : tasks) {
+            repository.addTask(task);
+        }
+        long after = usedHeap();
+        
+        // Lookup keys are fresh strings in random order, the way IDs arrive from callers;
+        // reusing the stored instances would let an identity check skip the comparison.
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] hits = new String[LOOKUPS];
+        String[] misses = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            hits[i] = String.format("%08x", random.nextInt(size));
+            misses[i] = String.format("%08x", size + random.nextInt(size));
+        }
+        
+        System.out.printf("%-12d %-22.1f %-22.1f %-22.1f%n",
+            size,
+            (double) (after - before) / size,
+            median(repository, hits, true),
+            median(repository, misses, false));
+    }
+    
+    private static double median(ThreadSafeTaskRepository repository, String[] keys, boolean expectHit) {
+        long[] samples = new long[ROUNDS];
+        for (int round = -2; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int found = 0;
+            for (String key : keys) {
+                if (repository.findById(key).isPresent()) {
+                    found++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if ((found == keys.length) != expectHit || (!expectHit && found != 0)) {
+                throw new IllegalStateException("Unexpected lookup result: " + found);
+            }
+            if (round >= 0) {
+                samples[round] = elapsed;
+            }
+        }
+        Arrays.sort(samples);
+        return (double) samples[ROUNDS / 2] / keys.length;
+    }
+    
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.sorting.TaskComparator;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TaskStateBenchmark {
+    
+    private static final int DEFAULT_SIZE = 1_000_000;
+    private static final int SORT_SIZE = 100_000;
+    private static final int ITERATIONS = 15;
+    private static final TaskStatus[] ACTIVE = {TaskStatus.PENDING, TaskStatus.IN_PROGRESS};
+    
+    public static void main(String[] args) throws InterruptedException {
+        int size = Math.max(SORT_SIZE * 2, args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE);
+        List<Task> tasks = new ArrayList<>(size);
+        LocalDateTime deadline = LocalDateTime.now().plusDays(7);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder()
+                .taskId("STATE-" + i)
+                .title("State task " + i)
+                .deadline(deadline)
+                .status(ACTIVE[i % ACTIVE.length])
+                .build());
+        }
+        List<Task> sortInput = tasks.subList(0, SORT_SIZE);
+        
+        ConsoleFormatter.printHeader("TASK STATE READS: STATUS FILTER AND STATUS SORT");
+        System.out.printf("%-18s %-26s %-26s %-22s%n",
+            "Writer", "Filter (ns/task)", "Assignee scan (ns/task)", "Sort " + sortInput.size() + " (ms)");
+        
+        report("idle", tasks, sortInput);
+        
+        AtomicBoolean running = new AtomicBoolean(true);
+        // The writer stays clear of the sorted prefix: a comparator over status must not
+        // see it change mid-sort.
+        int firstMutable = sortInput.size();
+        Thread writer = new Thread(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running.get()) {
+                Task task = tasks.get(firstMutable + random.nextInt(size - firstMutable));
+                task.assignTo("user-" + random.nextInt(16));
+                task.updateStatus(ACTIVE[random.nextInt(ACTIVE.length)]);
+            }
+        });
+        writer.setDaemon(true);
+        writer.start();
+        report("1 mutating thread", tasks, sortInput);
+        running.set(false);
+        writer.join();
+    }
+    
+    private static void report(String label, List<Task> tasks, List<Task> sortInput) {
+        long filterNanos = median(() -> tasks.stream()
+            .filter(task -> task.getStatus() == TaskStatus.PENDING)
+            .count());
+        long assigneeNanos = median(() -> tasks.stream()
+            .filter(task -> task.getAssignedTo() != null)
+            .count());
+        long sortNanos = median(() -> {
+            List<Task> copy = new ArrayList<>(sortInput);
+            copy.sort(TaskComparator.byStatus());
+            return copy.size();
+        });
+        
+        System.out.printf("%-18s %-26.2f %-26.2f %-22.1f%n",
+            label,
+            (double) filterNanos / tasks.size(),
+            (double) assigneeNanos / tasks.size(),
+            sortNanos / 1_000_000.0);
+    }
+    
+    private static long median(Query query) {
+        long[] samples = new long[ITERATIONS];
+        long sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += query.run();
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += query.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        if (sink < 0) {
+            throw new IllegalStateException("Unexpected result");
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+    
+    @FunctionalInterface
+    private interface Query {
+        long run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.timer.Timeout;
+import com.taskflow.timer.TimingWheel;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class TimingWheelBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {1_000_000, 5_000_000};
+    private static final long HORIZON_MILLIS = TimeUnit.DAYS.toMillis(90);
+    
+    public static void main(String[] args) throws InterruptedException {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        
+        ConsoleFormatter.printHeader("DEADLINE TIMERS: TIMING WHEEL VS ScheduledThreadPoolExecutor");
+        System.out.println("Deadlines spread over 90 days; half of the timers are cancelled afterwards");
+        System.out.printf("%-10s %-22s %-16s %-16s %-16s%n",
+            "Timers", "Scheduler", "Schedule (ns)", "Cancel (ns)", "Heap/timer (B)");
+        for (int size : sizes) {
+            long[] offsets = offsets(size);
+            wheel(size, offsets);
+            executor(size, offsets);
+        }
+    }
+    
+    private static void wheel(int size, long[] offsets) throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        try (TimingWheel wheel = new TimingWheel()) {
+            Timeout[] timeouts = new Timeout[size];
+            long baseline = usedAfterGc(runtime);
+            long now = System.currentTimeMillis();
+            long start = System.nanoTime();
+            for (int i = 0; i < size; i++) {
+                timeouts[i] = wheel.schedule(now + offsets[i], TimingWheelBenchmark::noop);
+            }
+            long scheduled = System.nanoTime() - start;
+            Thread.sleep(200);
+            long heap = usedAfterGc(runtime) - baseline;
+            
+            start = System.nanoTime();
+            for (int i = 0; i < size; i += 2) {
+                timeouts[i].cancel();
+            }
+            long cancelled = System.nanoTime() - start;
+            report(size, "TimingWheel", scheduled, cancelled, heap);
+        }
+    }
+    
+    private static void executor(int size, long[] offsets) throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        ScheduledFuture<?>[] futures = new ScheduledFuture<?>[size];
+        long baseline = usedAfterGc(runtime);
+        long start = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            futures[i] = executor.schedule(TimingWheelBenchmark::noop, offsets[i], TimeUnit.MILLISECONDS);
+        }
+        long scheduled = System.nanoTime() - start;
+        Thread.sleep(200);
+        long heap = usedAfterGc(runtime) - baseline;
+        
+        start = System.nanoTime();
+        for (int i = 0; i < size; i += 2) {
+            futures[i].cancel(false);
+        }
+        long cancelled = System.nanoTime() - start;
+        executor.shutdownNow();
+        report(size, "ScheduledThreadPool", scheduled, cancelled, heap);
+    }
+    
+    private static void report(int size, String scheduler, long scheduled, long cancelled, long heap) {
+        System.out.printf("%-10d %-22s %-16.1f %-16.1f %-16.1f%n", size, scheduler,
+            (double) scheduled / size, (double) cancelled / (size / 2), (double) heap / size);
+    }
+    
+    private static long[] offsets(int size) {
+        Random random = new Random(42);
+        long[] offsets = new long[size];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = 60_000 + (long) (random.nextDouble() * HORIZON_MILLIS);
+        }
+        return offsets;
+    }
+    
+    private static long usedAfterGc(Runtime runtime) {
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+    
+    private static void noop() {
+    }
+}
\ No newline at end of file
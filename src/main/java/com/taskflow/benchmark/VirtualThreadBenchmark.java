@@ -0,0 +1,75 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.TaskProcessor;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class VirtualThreadBenchmark {
+    
+    private static final int[] DEFAULT_SIZES = {10_000, 100_000, 1_000_000};
+    private static final int POOL_THREADS = 200;
+    private static final int VIRTUAL_CONCURRENCY = 10_000;
+    private static final long MEASURE_MILLIS = 5_000;
+    
+    public static void main(String[] args) throws InterruptedException {
+        int[] sizes = args.length > 0
+            ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+            : DEFAULT_SIZES;
+        
+        ConsoleFormatter.printHeader("FIXED POOL VS VIRTUAL THREADS");
+        TaskProcessor probe = TaskProcessor.virtualThreads(new ThreadSafeTaskRepository(), 1);
+        boolean virtualAvailable = probe.usesVirtualThreads();
+        probe.shutdown();
+        System.out.printf("Fixed pool: %d threads | Virtual: cap %d%s | window: %dms%n",
+            POOL_THREADS, VIRTUAL_CONCURRENCY,
+            virtualAvailable ? "" : " (virtual threads unavailable, platform fallback)",
+            MEASURE_MILLIS);
+        System.out.printf("%-10s %-10s %-16s %-16s%n", "Mode", "Tasks", "Tasks/s", "Heap used (MB)");
+        
+        for (int size : sizes) {
+            measure("fixed", size, repository -> new TaskProcessor(repository, POOL_THREADS));
+            measure("virtual", size, repository -> TaskProcessor.virtualThreads(repository, VIRTUAL_CONCURRENCY));
+        }
+    }
+    
+    private static void measure(String mode, int size, ProcessorFactory factory) throws InterruptedException {
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        LocalDateTime deadline = LocalDateTime.now().plusDays(1);
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(Task.builder()
+                .taskId("VT-" + i)
+                .title("Blocking task " + i)
+                .deadline(deadline)
+                .build());
+        }
+        
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+        
+        TaskProcessor processor = factory.create(repository);
+        long start = System.nanoTime();
+        processor.processTasks(tasks);
+        Thread.sleep(MEASURE_MILLIS);
+        
+        int processed = processor.getProcessedCount();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long used = runtime.totalMemory() - runtime.freeMemory() - baseline;
+        processor.shutdown();
+        
+        System.out.printf("%-10s %-10d %-16.0f %-16.1f%n",
+            mode, size, processed / seconds, used / (1024.0 * 1024.0));
+    }
+    
+    @FunctionalInterface
+    private interface ProcessorFactory {
+        TaskProcessor create(ThreadSafeTaskRepository repository);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.persistence.DurabilityMode;
+import com.taskflow.persistence.WriteAheadLog;
+import com.taskflow.util.ConsoleFormatter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WriteAheadLogBenchmark {
+    
+    private static final int[] THREAD_COUNTS = {1, 8, 32};
+    private static final long MEASURE_MILLIS = 3_000;
+    
+    public static void main(String[] args) throws Exception {
+        ConsoleFormatter.printHeader("WRITE-AHEAD LOG: ADDS PER SECOND BY DURABILITY MODE");
+        System.out.printf("%-14s %-10s %-16s %-12s %-16s%n",
+            "Mode", "Threads", "Writes/s", "fsyncs", "Writes/fsync");
+        
+        for (DurabilityMode mode : DurabilityMode.values()) {
+            for (int threads : THREAD_COUNTS) {
+                measure(mode, threads);
+            }
+        }
+    }
+    
+    private static void measure(DurabilityMode mode, int threadCount) throws Exception {
+        Path file = Files.createTempFile("taskflow-wal-bench", ".log");
+        Files.delete(file);
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        WriteAheadLog log = WriteAheadLog.attach(repository, file, mode);
+        LocalDateTime deadline = LocalDateTime.now().plusDays(1);
+        
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder writes = new LongAdder();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int workerId = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int sequence = 0;
+                while (running.get()) {
+                    repository.addTask(Task.builder()
+                        .taskId("WAL-" + workerId + "-" + sequence++)
+                        .title("Durable task")
+                        .deadline(deadline)
+                        .build());
+                    writes.increment();
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        
+        long began = System.nanoTime();
+        start.countDown();
+        Thread.sleep(MEASURE_MILLIS);
+        running.set(false);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - began) / 1_000_000_000.0;
+        long syncs = log.getSyncCount();
+        
+        log.close();
+        deleteQuietly(file);
+        System.out.printf("%-14s %-10d %-16.0f %-12d %-16.1f%n",
+            mode.name(), threadCount, writes.sum() / seconds, syncs,
+            syncs == 0 ? 0.0 : (double) writes.sum() / syncs);
+    }
+    
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + file + ": " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.taskflow.cdc;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+// One reader's cursor into a ChangeLog. Consumers are independent and the log does not
+// track them, so a slow one never holds anything up; each is meant for a single thread.
+public final class ChangeConsumer {
+    
+    private final ChangeLog log;
+    private long nextSequence;
+    
+    ChangeConsumer(ChangeLog log, long nextSequence) {
+        this.log = log;
+        this.nextSequence = nextSequence;
+    }
+    
+    // Hands up to maxEvents published changes to the handler in sequence order and
+    // returns how many it delivered. Throws IllegalStateException if the ring has
+    // overwritten the next change; the consumer can then resynchronise from the
+    // repository and seek to the log's oldest sequence.
+    public int poll(Consumer<ChangeEvent> handler, int maxEvents) {
+        Objects.requireNonNull(handler, "Handler cannot be null");
+        int delivered = 0;
+        while (delivered < maxEvents) {
+            ChangeEvent event = log.read(nextSequence);
+            if (event == null) {
+                break;
+            }
+            nextSequence++;
+            handler.accept(event);
+            delivered++;
+        }
+        return delivered;
+    }
+    
+    public void seek(long sequence) {
+        if (sequence < log.getOldestSequence() || sequence > log.getLastSequence() + 1) {
+            throw new IllegalArgumentException("Sequence " + sequence + " is outside the retained range");
+        }
+        nextSequence = sequence;
+    }
+    
+    // Save this to resume later with ChangeLog.subscribe(sequence).
+    public long getNextSequence() {
+        return nextSequence;
+    }
+    
+    public long getLag() {
+        return log.getLastSequence() - nextSequence + 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.taskflow.cdc;
+
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+// One repository change as a consumer sees it. The status and assignee fields are
+// captured when the change happened; the task itself is live and may have moved on.
+// Fields that do not apply to the change type are null (task is null for CLEARED).
+public final class ChangeEvent {
+    
+    private final long sequence;
+    private final long timestampMillis;
+    private final ChangeType type;
+    private final Task task;
+    private final TaskStatus previousStatus;
+    private final TaskStatus status;
+    private final String previousAssignee;
+    private final String assignee;
+    
+    ChangeEvent(long sequence, long timestampMillis, ChangeType type, Task task,
+                TaskStatus previousStatus, TaskStatus status, String previousAssignee, String assignee) {
+        this.sequence = sequence;
+        this.timestampMillis = timestampMillis;
+        this.type = type;
+        this.task = task;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.previousAssignee = previousAssignee;
+        this.assignee = assignee;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+    
+    public ChangeType getType() {
+        return type;
+    }
+    
+    public Task getTask() {
+        return task;
+    }
+    
+    public String getTaskId() {
+        return task == null ? null : task.getTaskId();
+    }
+    
+    public TaskStatus getPreviousStatus() {
+        return previousStatus;
+    }
+    
+    public TaskStatus getStatus() {
+        return status;
+    }
+    
+    public String getPreviousAssignee() {
+        return previousAssignee;
+    }
+    
+    public String getAssignee() {
+        return assignee;
+    }
+    
+    @Override
+    public String toString() {
+        return "ChangeEvent{#" + sequence + " " + type + (task == null ? "" : " " + task.getTaskId()) + "}";
+    }
+}
\ No newline at end of file
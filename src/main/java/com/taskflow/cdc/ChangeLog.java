@@ -0,0 +1,168 @@
+package com.taskflow.cdc;
+
+import com.taskflow.concurrency.RepositoryListener;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Change-data-capture feed of a repository: every add, remove, status change and
+// reassignment gets the next sequence number (starting at 1) and is written into a
+// preallocated ring. Producers never wait for consumers; the ring simply overwrites its
+// oldest slot, and a consumer that falls more than a lap behind finds out on its next
+// poll. Events for one task are numbered in the order the repository applied them.
+public class ChangeLog implements RepositoryListener {
+    
+    public static final int DEFAULT_CAPACITY = 65_536;
+    
+    // Each slot's stamp is the sequence it holds, minus that sequence while it is being
+    // written, or 0 if it was never written. Readers check the stamp before and after
+    // copying a slot, the same validation StampedLock's optimistic reads use.
+    private final Slot[] slots;
+    private final AtomicLongArray stamps;
+    private final int mask;
+    private final AtomicLong lastSequence;
+    
+    public ChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public ChangeLog(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.stamps = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.lastSequence = new AtomicLong();
+    }
+    
+    // Changes made before this call are not captured; consumers that need them start
+    // from repository.stream() and then read this log.
+    public static ChangeLog attach(ThreadSafeTaskRepository repository, int capacity) {
+        ChangeLog log = new ChangeLog(capacity);
+        repository.addListener(log);
+        return log;
+    }
+    
+    // A consumer that starts with the next change published.
+    public ChangeConsumer subscribe() {
+        return new ChangeConsumer(this, lastSequence.get() + 1);
+    }
+    
+    // Resumes from a sequence a consumer saved earlier, as long as the ring still holds it.
+    public ChangeConsumer subscribe(long fromSequence) {
+        if (fromSequence < getOldestSequence() || fromSequence > lastSequence.get() + 1) {
+            throw new IllegalArgumentException("Sequence " + fromSequence + " is outside the retained range "
+                + getOldestSequence() + ".." + (lastSequence.get() + 1));
+        }
+        return new ChangeConsumer(this, fromSequence);
+    }
+    
+    public long getLastSequence() {
+        return lastSequence.get();
+    }
+    
+    public long getOldestSequence() {
+        return Math.max(1, lastSequence.get() - slots.length + 1);
+    }
+    
+    public int getCapacity() {
+        return slots.length;
+    }
+    
+    @Override
+    public void onTaskAdded(Task task) {
+        publish(ChangeType.ADDED, task, null, task.getStatus(), null, task.getAssignedTo());
+    }
+    
+    @Override
+    public void onTaskRemoved(Task task) {
+        publish(ChangeType.REMOVED, task, task.getStatus(), null, task.getAssignedTo(), null);
+    }
+    
+    @Override
+    public void onStatusChanged(Task task, TaskStatus previous, TaskStatus current) {
+        publish(ChangeType.STATUS_CHANGED, task, previous, current, null, null);
+    }
+    
+    @Override
+    public void onAssigneeChanged(Task task, String previous, String current) {
+        publish(ChangeType.ASSIGNEE_CHANGED, task, null, null, previous, current);
+    }
+    
+    @Override
+    public void onCleared() {
+        publish(ChangeType.CLEARED, null, null, null, null, null);
+    }
+    
+    private void publish(ChangeType type, Task task, TaskStatus previousStatus, TaskStatus status,
+                         String previousAssignee, String assignee) {
+        long sequence = lastSequence.incrementAndGet();
+        int index = (int) (sequence & mask);
+        if (!claim(index, sequence)) {
+            return;
+        }
+        Slot slot = slots[index];
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.type = type;
+        slot.task = task;
+        slot.previousStatus = previousStatus;
+        slot.status = status;
+        slot.previousAssignee = previousAssignee;
+        slot.assignee = assignee;
+        stamps.set(index, sequence);
+    }
+    
+    // Only another producer can hold a slot, and only for the few stores above. A
+    // producer already lapped by a newer sequence gives its slot up; consumers that
+    // wanted the older event see the lap either way.
+    private boolean claim(int index, long sequence) {
+        while (true) {
+            long stamp = stamps.get(index);
+            if (Math.abs(stamp) >= sequence) {
+                return false;
+            }
+            if (stamp < 0) {
+                Thread.onSpinWait();
+            } else if (stamps.compareAndSet(index, stamp, -sequence)) {
+                return true;
+            }
+        }
+    }
+    
+    // Null if the sequence has not been published yet.
+    ChangeEvent read(long sequence) {
+        int index = (int) (sequence & mask);
+        long stamp = stamps.get(index);
+        if (stamp == sequence) {
+            Slot slot = slots[index];
+            ChangeEvent event = new ChangeEvent(sequence, slot.timestampMillis, slot.type, slot.task,
+                slot.previousStatus, slot.status, slot.previousAssignee, slot.assignee);
+            VarHandle.acquireFence();
+            if (stamps.get(index) == sequence) {
+                return event;
+            }
+        } else if (Math.abs(stamp) < sequence) {
+            return null;
+        }
+        throw new IllegalStateException("Change " + sequence + " was overwritten; oldest retained is "
+            + getOldestSequence());
+    }
+    
+    private static final class Slot {
+        private long timestampMillis;
+        private ChangeType type;
+        private Task task;
+        private TaskStatus previousStatus;
+        private TaskStatus status;
+        private String previousAssignee;
+        private String assignee;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.taskflow.cdc;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChangeLogTest {
+    
+    public static void main(String[] args) {
+        ChangeLogTest test = new ChangeLogTest();
+        test.runAllTests();
+    }
+    
+    public void runAllTests() {
+        System.out.println("Running ChangeLog Tests...\n");
+        
+        testConsumersSeeEveryChangeInOrder();
+        testLappedConsumerCanResume();
+        
+        System.out.println("\n✓ All ChangeLog tests passed!");
+    }
+    
+    private void testConsumersSeeEveryChangeInOrder() {
+        System.out.println("Test: Consumers See Every Change In Order");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        ChangeLog log = ChangeLog.attach(repo, 64);
+        ChangeConsumer first = log.subscribe();
+        ChangeConsumer second = log.subscribe();
+        
+        repo.addTask(task("CDC-1"));
+        Task task = repo.findById("CDC-1").orElseThrow();
+        task.updateStatus(TaskStatus.IN_PROGRESS);
+        task.assignTo("Alice");
+        repo.removeTask("CDC-1");
+        repo.clear();
+        
+        List<ChangeEvent> seen = new ArrayList<>();
+        assertEqual(5, first.poll(seen::add, 100), "First consumer should get all five changes");
+        assertEqual(0, first.poll(seen::add, 100), "Nothing further should be published");
+        
+        assertEqual(ChangeType.ADDED, seen.get(0).getType(), "Add comes first");
+        assertEqual(TaskStatus.PENDING, seen.get(0).getStatus(), "Add carries the initial status");
+        assertEqual(ChangeType.STATUS_CHANGED, seen.get(1).getType(), "Then the transition");
+        assertEqual(TaskStatus.PENDING, seen.get(1).getPreviousStatus(), "Transition carries the old status");
+        assertEqual(TaskStatus.IN_PROGRESS, seen.get(1).getStatus(), "Transition carries the new status");
+        assertEqual(ChangeType.ASSIGNEE_CHANGED, seen.get(2).getType(), "Then the reassignment");
+        assertEqual("Alice", seen.get(2).getAssignee(), "Reassignment carries the assignee");
+        assertEqual(ChangeType.REMOVED, seen.get(3).getType(), "Then the delete");
+        assertEqual(ChangeType.CLEARED, seen.get(4).getType(), "Clear comes last");
+        for (int i = 0; i < seen.size(); i++) {
+            assertEqual((long) i + 1, seen.get(i).getSequence(), "Sequences should start at 1 and increase");
+        }
+        
+        List<ChangeEvent> again = new ArrayList<>();
+        assertEqual(2, second.poll(again::add, 2), "Second consumer reads at its own pace");
+        assertEqual(3L, second.getNextSequence(), "Second consumer's cursor is independent");
+        assertEqual(3L, second.getLag(), "Three changes are still unread");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testLappedConsumerCanResume() {
+        System.out.println("Test: Lapped Consumer Can Resume");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        ChangeLog log = ChangeLog.attach(repo, 8);
+        ChangeConsumer stalled = log.subscribe();
+        for (int i = 0; i < 20; i++) {
+            repo.addTask(task("LAP-" + i));
+        }
+        assertEqual(20L, log.getLastSequence(), "Producers should never wait for the stalled consumer");
+        
+        boolean lapped = false;
+        try {
+            stalled.poll(event -> { }, 100);
+        } catch (IllegalStateException e) {
+            lapped = true;
+        }
+        assertEqual(true, lapped, "Stalled consumer should be told it was overwritten");
+        
+        stalled.seek(log.getOldestSequence());
+        List<ChangeEvent> tail = new ArrayList<>();
+        assertEqual(8, stalled.poll(tail::add, 100), "The retained lap should be readable");
+        assertEqual("LAP-12", tail.get(0).getTaskId(), "Oldest retained change is the thirteenth add");
+        
+        ChangeConsumer resumed = log.subscribe(18);
+        List<ChangeEvent> rest = new ArrayList<>();
+        assertEqual(3, resumed.poll(rest::add, 100), "Resuming from a saved sequence reads the rest");
+        assertEqual("LAP-17", rest.get(0).getTaskId(), "Resumed consumer starts at the saved change");
+        
+        boolean rejected = false;
+        try {
+            log.subscribe(2);
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        }
+        assertEqual(true, rejected, "Resuming from an overwritten sequence should be rejected");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private Task task(String id) {
+        return Task.builder()
+            .taskId(id)
+            .title("Change " + id)
+            .deadline(LocalDateTime.now().plusDays(1))
+            .build();
+    }
+    
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.taskflow.cdc;
+
+public enum ChangeType {
+    ADDED("Task created"),
+    REMOVED("Task deleted"),
+    STATUS_CHANGED("Status transition"),
+    ASSIGNEE_CHANGED("Task reassigned"),
+    CLEARED("Every task removed");
+    
+    private final String description;
+    
+    ChangeType(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
\ No newline at end of file
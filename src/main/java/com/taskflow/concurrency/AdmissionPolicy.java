@@ -0,0 +1,17 @@
+package com.taskflow.concurrency;
+
+public enum AdmissionPolicy {
+    BLOCK("Block the submitting thread until the queue has room"),
+    REJECT("Fail the task's future straight away"),
+    SHED_LOWEST_PRIORITY("Drop the lowest-priority queued task to make room");
+    
+    private final String description;
+    
+    AdmissionPolicy(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
\ No newline at end of file
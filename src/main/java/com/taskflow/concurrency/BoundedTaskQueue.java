@@ -0,0 +1,322 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Priority;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Work queue of a TaskProcessor with bounded admission; only DispatchedTasks go in.
+// Tasks wait in one band per Priority, so the lowest-priority one can be shed without
+// a scan, while take() still follows the scheduling policy: oldest first for FIFO,
+// highest priority then earliest deadline for PRIORITY.
+final class BoundedTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+    
+    private final int capacity;
+    private final SchedulingPolicy schedulingPolicy;
+    private final Map<Priority, TreeSet<DispatchedTask>> bands;
+    // The same bands, lowest priority level first.
+    private final List<TreeSet<DispatchedTask>> bandsByLevel;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private int count;
+    
+    BoundedTaskQueue(int capacity, SchedulingPolicy schedulingPolicy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.schedulingPolicy = schedulingPolicy;
+        Comparator<DispatchedTask> order = schedulingPolicy == SchedulingPolicy.PRIORITY
+            ? Comparator.naturalOrder()
+            : Comparator.comparingLong(DispatchedTask::getSequence);
+        this.bands = new EnumMap<>(Priority.class);
+        this.bandsByLevel = new ArrayList<>();
+        Priority[] levels = Priority.values();
+        Arrays.sort(levels, Comparator.comparingInt(Priority::getLevel));
+        for (Priority priority : levels) {
+            TreeSet<DispatchedTask> band = new TreeSet<>(order);
+            bands.put(priority, band);
+            bandsByLevel.add(band);
+        }
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+    
+    // Queues the task, making room if needed by dropping the newest task of the lowest
+    // priority band (or, under PRIORITY, the one with the latest deadline). Returns the
+    // queued task that was dropped, null if there was room, or the incoming task itself,
+    // not queued, if nothing queued ranks below it.
+    DispatchedTask offerShedding(DispatchedTask task) {
+        Objects.requireNonNull(task);
+        lock.lock();
+        try {
+            if (count < capacity) {
+                enqueue(task);
+                return null;
+            }
+            TreeSet<DispatchedTask> lowest = lowestBand();
+            if (!task.getPriority().isHigherThan(lowest.first().getPriority())) {
+                return task;
+            }
+            DispatchedTask victim = lowest.pollLast();
+            count--;
+            enqueue(task);
+            return victim;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public boolean offer(Runnable task) {
+        Objects.requireNonNull(task);
+        lock.lock();
+        try {
+            if (count == capacity) {
+                return false;
+            }
+            enqueue((DispatchedTask) task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public boolean offer(Runnable task, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(task);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue((DispatchedTask) task);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void put(Runnable task) throws InterruptedException {
+        Objects.requireNonNull(task);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                notFull.await();
+            }
+            enqueue((DispatchedTask) task);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            return count == 0 ? null : nextBand().first();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof DispatchedTask)) {
+            return false;
+        }
+        DispatchedTask task = (DispatchedTask) o;
+        lock.lock();
+        try {
+            if (!bands.get(task.getPriority()).remove(task)) {
+                return false;
+            }
+            count--;
+            notFull.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    int getCapacity() {
+        return capacity;
+    }
+    
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public int drainTo(Collection<? super Runnable> sink) {
+        return drainTo(sink, Integer.MAX_VALUE);
+    }
+    
+    @Override
+    public int drainTo(Collection<? super Runnable> sink, int maxElements) {
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && count > 0) {
+                sink.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Iterates a copy, highest band first; remove() goes back to the live queue.
+    @Override
+    public Iterator<Runnable> iterator() {
+        List<Runnable> copy = new ArrayList<>();
+        lock.lock();
+        try {
+            for (int i = bandsByLevel.size() - 1; i >= 0; i--) {
+                copy.addAll(bandsByLevel.get(i));
+            }
+        } finally {
+            lock.unlock();
+        }
+        Iterator<Runnable> snapshot = copy.iterator();
+        return new Iterator<>() {
+            private Runnable last;
+            
+            @Override
+            public boolean hasNext() {
+                return snapshot.hasNext();
+            }
+            
+            @Override
+            public Runnable next() {
+                last = snapshot.next();
+                return last;
+            }
+            
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                BoundedTaskQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+    
+    private void enqueue(DispatchedTask task) {
+        bands.get(task.getPriority()).add(task);
+        count++;
+        notEmpty.signal();
+    }
+    
+    private Runnable dequeue() {
+        DispatchedTask task = nextBand().pollFirst();
+        count--;
+        notFull.signal();
+        return task;
+    }
+    
+    private TreeSet<DispatchedTask> nextBand() {
+        TreeSet<DispatchedTask> next = null;
+        for (int i = bandsByLevel.size() - 1; i >= 0; i--) {
+            TreeSet<DispatchedTask> band = bandsByLevel.get(i);
+            if (band.isEmpty()) {
+                continue;
+            }
+            if (schedulingPolicy == SchedulingPolicy.PRIORITY) {
+                return band;
+            }
+            if (next == null || band.first().getSequence() < next.first().getSequence()) {
+                next = band;
+            }
+        }
+        return next;
+    }
+    
+    private TreeSet<DispatchedTask> lowestBand() {
+        for (TreeSet<DispatchedTask> band : bandsByLevel) {
+            if (!band.isEmpty()) {
+                return band;
+            }
+        }
+        throw new IllegalStateException("Queue is empty");
+    }
+}
\ No newline at end of file
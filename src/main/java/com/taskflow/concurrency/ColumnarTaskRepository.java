@@ -0,0 +1,428 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Task store for large volumes of mostly historical tasks. Every field lives off-heap in
+// a column: priority and status as ordinal bytes, deadline and creation date as UTC
+// epoch nanos, and strings as codes into dictionaries. A task's ID is interned in its
+// own dictionary, whose code is the task's row. Queries scan the primitive columns and
+// only build Task objects for the rows they return; those tasks are detached copies,
+// so changes go through updateStatus and assignTo on the store.
+public class ColumnarTaskRepository {
+    
+    private static final byte REMOVED = -1;
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final int[] PRIORITY_RANK = rankByLevelDescending();
+    
+    private final StringDictionary ids;
+    private final StringDictionary strings;
+    private final OffHeapColumn priority;
+    private final OffHeapColumn status;
+    private final OffHeapColumn deadline;
+    private final OffHeapColumn createdAt;
+    private final OffHeapColumn title;
+    private final OffHeapColumn description;
+    private final OffHeapColumn assignedTo;
+    private final ReadWriteLock lock;
+    private int live;
+    
+    public ColumnarTaskRepository() {
+        this.ids = new StringDictionary();
+        this.strings = new StringDictionary();
+        this.priority = new OffHeapColumn(Byte.BYTES);
+        this.status = new OffHeapColumn(Byte.BYTES);
+        this.deadline = new OffHeapColumn(Long.BYTES);
+        this.createdAt = new OffHeapColumn(Long.BYTES);
+        this.title = new OffHeapColumn(Integer.BYTES);
+        this.description = new OffHeapColumn(Integer.BYTES);
+        this.assignedTo = new OffHeapColumn(Integer.BYTES);
+        this.lock = new ReentrantReadWriteLock();
+    }
+    
+    // A removed task's row is reused if its ID is added again.
+    public void addTask(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        long deadlineNanos = toEpochNanos(task.getDeadline());
+        long createdAtNanos = toEpochNanos(task.getCreatedAt());
+        
+        lock.writeLock().lock();
+        try {
+            int rows = ids.size();
+            ensureCapacity(rows + 1);
+            int row = ids.intern(task.getTaskId());
+            if (row < rows && status.getByte(row) != REMOVED) {
+                throw new IllegalArgumentException("Task already exists: " + task.getTaskId());
+            }
+            priority.putByte(row, (byte) task.getPriority().ordinal());
+            status.putByte(row, (byte) task.getStatus().ordinal());
+            deadline.putLong(row, deadlineNanos);
+            createdAt.putLong(row, createdAtNanos);
+            title.putInt(row, strings.intern(task.getTitle()));
+            description.putInt(row, internNullable(task.getDescription()));
+            assignedTo.putInt(row, internNullable(task.getAssignedTo()));
+            live++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public Optional<Task> findById(String taskId) {
+        lock.readLock().lock();
+        try {
+            int row = rowOf(taskId);
+            return row == StringDictionary.NONE ? Optional.empty() : Optional.of(materialize(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public List<Task> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Task> result = new ArrayList<>(live);
+            int rows = ids.size();
+            for (int row = 0; row < rows; row++) {
+                if (status.getByte(row) != REMOVED) {
+                    result.add(materialize(row));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public List<Task> findByStatus(TaskStatus taskStatus) {
+        Objects.requireNonNull(taskStatus, "Status cannot be null");
+        lock.readLock().lock();
+        try {
+            return materialize(rowsWithStatus((byte) taskStatus.ordinal()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int countByStatus(TaskStatus taskStatus) {
+        Objects.requireNonNull(taskStatus, "Status cannot be null");
+        lock.readLock().lock();
+        try {
+            byte code = (byte) taskStatus.ordinal();
+            byte[] scratch = new byte[OffHeapColumn.CHUNK_ROWS];
+            int count = 0;
+            int rows = ids.size();
+            for (int base = 0; base < rows; base += OffHeapColumn.CHUNK_ROWS) {
+                int length = loadChunk(status, base, rows, scratch);
+                count += countMatches(scratch, length, code);
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Orderings match TaskComparator's; ties keep insertion order.
+    public List<Task> sortedByPriority() {
+        lock.readLock().lock();
+        try {
+            return materialize(sortByPriority(liveRows()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public List<Task> sortedByDeadline() {
+        lock.readLock().lock();
+        try {
+            return materialize(sortByDeadline(liveRows()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public List<Task> sortedByPriorityThenDeadline() {
+        lock.readLock().lock();
+        try {
+            return materialize(sortByPriority(sortByDeadline(liveRows())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public void updateStatus(String taskId, TaskStatus newStatus) {
+        Objects.requireNonNull(newStatus, "Status cannot be null");
+        lock.writeLock().lock();
+        try {
+            int row = requireRow(taskId);
+            if (STATUSES[status.getByte(row)] == TaskStatus.CANCELLED) {
+                throw new IllegalStateException("Cannot update cancelled task");
+            }
+            status.putByte(row, (byte) newStatus.ordinal());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void assignTo(String taskId, String user) {
+        lock.writeLock().lock();
+        try {
+            int row = requireRow(taskId);
+            TaskStatus current = STATUSES[status.getByte(row)];
+            if (current == TaskStatus.COMPLETED || current == TaskStatus.CANCELLED) {
+                throw new IllegalStateException("Cannot reassign completed or cancelled task");
+            }
+            assignedTo.putInt(row, internNullable(user));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean removeTask(String taskId) {
+        lock.writeLock().lock();
+        try {
+            int row = rowOf(taskId);
+            if (row == StringDictionary.NONE) {
+                return false;
+            }
+            status.putByte(row, REMOVED);
+            live--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public long getOffHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return ids.offHeapBytes() + strings.offHeapBytes() + priority.offHeapBytes()
+                + status.offHeapBytes() + deadline.offHeapBytes() + createdAt.offHeapBytes()
+                + title.offHeapBytes() + description.offHeapBytes() + assignedTo.offHeapBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Direct buffers are released when the garbage collector reclaims them.
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ids.clear();
+            strings.clear();
+            for (OffHeapColumn column : List.of(priority, status, deadline, createdAt, title, description, assignedTo)) {
+                column.clear();
+            }
+            live = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void ensureCapacity(int rows) {
+        priority.ensureCapacity(rows);
+        status.ensureCapacity(rows);
+        deadline.ensureCapacity(rows);
+        createdAt.ensureCapacity(rows);
+        title.ensureCapacity(rows);
+        description.ensureCapacity(rows);
+        assignedTo.ensureCapacity(rows);
+    }
+    
+    private int rowOf(String taskId) {
+        int row = ids.find(Objects.requireNonNull(taskId, "Task ID cannot be null"));
+        return row != StringDictionary.NONE && status.getByte(row) != REMOVED ? row : StringDictionary.NONE;
+    }
+    
+    private int requireRow(String taskId) {
+        int row = rowOf(taskId);
+        if (row == StringDictionary.NONE) {
+            throw new IllegalArgumentException("Task not found: " + taskId);
+        }
+        return row;
+    }
+    
+    private int internNullable(String value) {
+        return value == null ? StringDictionary.NONE : strings.intern(value);
+    }
+    
+    private String stringOrNull(int code) {
+        return code == StringDictionary.NONE ? null : strings.get(code);
+    }
+    
+    private Task materialize(int row) {
+        return Task.builder()
+            .taskId(ids.get(row))
+            .title(strings.get(title.getInt(row)))
+            .description(stringOrNull(description.getInt(row)))
+            .priority(PRIORITIES[priority.getByte(row)])
+            .deadline(fromEpochNanos(deadline.getLong(row)))
+            .createdAt(fromEpochNanos(createdAt.getLong(row)))
+            .status(STATUSES[status.getByte(row)])
+            .assignedTo(stringOrNull(assignedTo.getInt(row)))
+            .buildRestored();
+    }
+    
+    private List<Task> materialize(int[] rows) {
+        List<Task> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(materialize(row));
+        }
+        return result;
+    }
+    
+    // Each chunk of the status column is copied onto the heap and scanned twice, once
+    // to count and once to collect; both are plain loops over a byte[] that the JIT can
+    // unroll and vectorize.
+    private int[] rowsWithStatus(byte code) {
+        byte[] scratch = new byte[OffHeapColumn.CHUNK_ROWS];
+        int rows = ids.size();
+        int[] result = new int[0];
+        int found = 0;
+        for (int base = 0; base < rows; base += OffHeapColumn.CHUNK_ROWS) {
+            int length = loadChunk(status, base, rows, scratch);
+            int matches = countMatches(scratch, length, code);
+            if (matches == 0) {
+                continue;
+            }
+            if (found + matches > result.length) {
+                result = Arrays.copyOf(result, Math.max(found + matches, result.length * 2));
+            }
+            for (int i = 0; i < length; i++) {
+                if (scratch[i] == code) {
+                    result[found++] = base + i;
+                }
+            }
+        }
+        return found == result.length ? result : Arrays.copyOf(result, found);
+    }
+    
+    private int[] liveRows() {
+        int[] result = new int[live];
+        int rows = ids.size();
+        int found = 0;
+        for (int row = 0; row < rows; row++) {
+            if (status.getByte(row) != REMOVED) {
+                result[found++] = row;
+            }
+        }
+        return result;
+    }
+    
+    private static int loadChunk(OffHeapColumn column, int base, int rows, byte[] scratch) {
+        int length = Math.min(OffHeapColumn.CHUNK_ROWS, rows - base);
+        ByteBuffer chunk = column.chunk(base >>> OffHeapColumn.CHUNK_BITS);
+        chunk.get(0, scratch, 0, length);
+        return length;
+    }
+    
+    private static int countMatches(byte[] values, int length, byte code) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += values[i] == code ? 1 : 0;
+        }
+        return count;
+    }
+    
+    // Stable counting sort on the priority column, highest level first.
+    private int[] sortByPriority(int[] rows) {
+        int[] counts = new int[PRIORITIES.length + 1];
+        for (int row : rows) {
+            counts[PRIORITY_RANK[priority.getByte(row)] + 1]++;
+        }
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+        int[] sorted = new int[rows.length];
+        for (int row : rows) {
+            sorted[counts[PRIORITY_RANK[priority.getByte(row)]]++] = row;
+        }
+        return sorted;
+    }
+    
+    // LSD radix sort on the deadline column, 16 bits per pass. Flipping the sign bit
+    // makes unsigned digit order match signed order, and a pass where every key has
+    // the same digit is skipped, which drops most passes for deadlines within a few years.
+    private int[] sortByDeadline(int[] rows) {
+        int n = rows.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = deadline.getLong(rows[i]) ^ Long.MIN_VALUE;
+        }
+        long[] keyBuffer = new long[n];
+        int[] rowBuffer = new int[n];
+        int[] counts = new int[(1 << 16) + 1];
+        for (int shift = 0; shift < Long.SIZE && n > 0; shift += 16) {
+            Arrays.fill(counts, 0);
+            for (long key : keys) {
+                counts[(int) (key >>> shift) & 0xFFFF]++;
+            }
+            if (counts[(int) (keys[0] >>> shift) & 0xFFFF] == n) {
+                continue;
+            }
+            int total = 0;
+            for (int digit = 0; digit < counts.length; digit++) {
+                int count = counts[digit];
+                counts[digit] = total;
+                total += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int position = counts[(int) (keys[i] >>> shift) & 0xFFFF]++;
+                keyBuffer[position] = keys[i];
+                rowBuffer[position] = rows[i];
+            }
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapRows = rows;
+            rows = rowBuffer;
+            rowBuffer = swapRows;
+        }
+        return rows;
+    }
+    
+    private static int[] rankByLevelDescending() {
+        Priority[] byLevel = PRIORITIES.clone();
+        Arrays.sort(byLevel, Comparator.comparingInt(Priority::getLevel).reversed());
+        int[] rank = new int[PRIORITIES.length];
+        for (int i = 0; i < byLevel.length; i++) {
+            rank[byLevel[i].ordinal()] = i;
+        }
+        return rank;
+    }
+    
+    private static long toEpochNanos(LocalDateTime time) {
+        try {
+            return Math.addExact(Math.multiplyExact(time.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L), time.getNano());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Time outside the supported range: " + time, e);
+        }
+    }
+    
+    private static LocalDateTime fromEpochNanos(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+            (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
\ No newline at end of file
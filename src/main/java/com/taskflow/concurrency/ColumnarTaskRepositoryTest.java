@@ -0,0 +1,149 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.sorting.TaskComparator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class ColumnarTaskRepositoryTest {
+    
+    public static void main(String[] args) {
+        ColumnarTaskRepositoryTest test = new ColumnarTaskRepositoryTest();
+        test.runAllTests();
+    }
+    
+    public void runAllTests() {
+        System.out.println("Running ColumnarTaskRepository Tests...\n");
+        
+        testRoundTrip();
+        testStatusQueriesAndGuards();
+        testSortsMatchComparators();
+        
+        System.out.println("\n✓ All ColumnarTaskRepository tests passed!");
+    }
+    
+    private void testRoundTrip() {
+        System.out.println("Test: Round Trip");
+        
+        ColumnarTaskRepository store = new ColumnarTaskRepository();
+        Task original = Task.builder()
+            .taskId("COL-1")
+            .title("Quarterly report")
+            .description("Numbers for Q3 ✓")
+            .priority(Priority.CRITICAL)
+            .deadline(LocalDateTime.now().plusDays(3))
+            .assignedTo("Alice")
+            .build();
+        store.addTask(original);
+        
+        Task copy = store.findById("COL-1").orElseThrow();
+        assertEqual(original.getTitle(), copy.getTitle(), "Title should survive");
+        assertEqual(original.getDescription(), copy.getDescription(), "Non-ASCII description should survive");
+        assertEqual(original.getPriority(), copy.getPriority(), "Priority should survive");
+        assertEqual(original.getDeadline(), copy.getDeadline(), "Deadline should survive to the nanosecond");
+        assertEqual(original.getCreatedAt(), copy.getCreatedAt(), "Creation date should survive");
+        assertEqual("Alice", copy.getAssignedTo(), "Assignee should survive");
+        
+        assertThrows(IllegalArgumentException.class, () -> store.addTask(original), "Duplicate ID should be rejected");
+        assertTrue(store.removeTask("COL-1"), "Task should be removable");
+        assertTrue(store.findById("COL-1").isEmpty(), "Removed task should not be found");
+        store.addTask(original);
+        assertEqual(1, store.size(), "Removed ID should be reusable");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testStatusQueriesAndGuards() {
+        System.out.println("Test: Status Queries And Guards");
+        
+        ColumnarTaskRepository store = new ColumnarTaskRepository();
+        int count = 200_000;
+        for (int i = 0; i < count; i++) {
+            store.addTask(Task.builder()
+                .taskId("COL-" + i)
+                .title("Historical")
+                .deadline(LocalDateTime.now().plusDays(1))
+                .status(i % 4 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING)
+                .build());
+        }
+        store.removeTask("COL-4");
+        
+        assertEqual(count / 4 - 1, store.countByStatus(TaskStatus.COMPLETED), "Count should skip removed rows");
+        List<Task> completed = store.findByStatus(TaskStatus.COMPLETED);
+        assertEqual(count / 4 - 1, completed.size(), "Scan should span every chunk");
+        assertEqual("COL-" + (count - 4), completed.get(completed.size() - 1).getTaskId(), "Last chunk should be scanned");
+        
+        store.updateStatus("COL-1", TaskStatus.CANCELLED);
+        assertThrows(IllegalStateException.class, () -> store.updateStatus("COL-1", TaskStatus.PENDING),
+            "Cancelled task cannot change status");
+        assertThrows(IllegalStateException.class, () -> store.assignTo("COL-0", "Bob"),
+            "Completed task cannot be reassigned");
+        store.assignTo("COL-2", "Bob");
+        assertEqual("Bob", store.findById("COL-2").orElseThrow().getAssignedTo(), "Assignment should be stored");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testSortsMatchComparators() {
+        System.out.println("Test: Sorts Match Comparators");
+        
+        ColumnarTaskRepository store = new ColumnarTaskRepository();
+        List<Task> inserted = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        Priority[] priorities = Priority.values();
+        for (int i = 0; i < 5_000; i++) {
+            Task task = Task.builder()
+                .taskId("SORT-" + i)
+                .title("Sort " + i)
+                .priority(priorities[(i * 7) % priorities.length])
+                .deadline(now.plusMinutes(1 + (i * 7919L) % 3_000).plusNanos(i % 3))
+                .build();
+            store.addTask(task);
+            inserted.add(task);
+        }
+        
+        assertSameOrder(inserted, TaskComparator.byPriority(), store.sortedByPriority());
+        assertSameOrder(inserted, TaskComparator.byDeadline(), store.sortedByDeadline());
+        assertSameOrder(inserted, TaskComparator.byPriorityThenDeadline(), store.sortedByPriorityThenDeadline());
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void assertSameOrder(List<Task> inserted, Comparator<Task> ordering, List<Task> actual) {
+        List<Task> expected = new ArrayList<>(inserted);
+        expected.sort(ordering);
+        assertEqual(expected.size(), actual.size(), "Sort should return every task");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEqual(expected.get(i).getTaskId(), actual.get(i).getTaskId(), "Position " + i + " should match");
+        }
+    }
+    
+    private void assertThrows(Class<? extends RuntimeException> type, Runnable action, String message) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            if (type.isInstance(e)) {
+                return;
+            }
+            throw e;
+        }
+        throw new AssertionError(message);
+    }
+    
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+    
+    private void assertTrue(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
\ No newline at end of file
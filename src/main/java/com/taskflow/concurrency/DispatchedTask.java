@@ -0,0 +1,58 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.sorting.TaskComparator;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+final class DispatchedTask implements Runnable, Comparable<DispatchedTask> {
+
+    private static final Comparator<Task> ORDER = TaskComparator.byPriorityThenDeadline();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final Task task;
+    private final Runnable work;
+    private final int taskCount;
+    private final Consumer<Throwable> onRejected;
+    private final long sequence;
+
+    // A chunk is dispatched as one unit under its first task, covering taskCount tasks.
+    DispatchedTask(Task task, Runnable work, int taskCount, Consumer<Throwable> onRejected) {
+        this.task = task;
+        this.work = work;
+        this.taskCount = taskCount;
+        this.onRejected = onRejected;
+        this.sequence = SEQUENCE.getAndIncrement();
+    }
+
+    @Override
+    public void run() {
+        work.run();
+    }
+
+    // Fails whatever was waiting on this work; it will never run.
+    void reject(Throwable cause) {
+        onRejected.accept(cause);
+    }
+
+    Priority getPriority() {
+        return task.getPriority();
+    }
+
+    int getTaskCount() {
+        return taskCount;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public int compareTo(DispatchedTask other) {
+        int byTask = ORDER.compare(task, other.task);
+        return byTask != 0 ? byTask : Long.compare(sequence, other.sequence);
+    }
+}
\ No newline at end of file
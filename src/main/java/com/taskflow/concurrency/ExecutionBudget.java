@@ -0,0 +1,67 @@
+package com.taskflow.concurrency;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+// Time limits for a processTasks or processTaskAsync call. The task limit counts from
+// the moment a worker starts the task; the batch limit counts from submission and
+// covers queueing too, so tasks still waiting when it passes time out without running.
+public final class ExecutionBudget {
+    
+    private static final ExecutionBudget UNLIMITED = new ExecutionBudget(null, null, TimeoutPolicy.CANCEL);
+    
+    private final Duration taskLimit;
+    private final Duration batchLimit;
+    private final TimeoutPolicy timeoutPolicy;
+    
+    private ExecutionBudget(Duration taskLimit, Duration batchLimit, TimeoutPolicy timeoutPolicy) {
+        this.taskLimit = taskLimit;
+        this.batchLimit = batchLimit;
+        this.timeoutPolicy = timeoutPolicy;
+    }
+    
+    public static ExecutionBudget unlimited() {
+        return UNLIMITED;
+    }
+    
+    public static ExecutionBudget perTask(Duration limit) {
+        return UNLIMITED.withTaskLimit(limit);
+    }
+    
+    public static ExecutionBudget perBatch(Duration limit) {
+        return UNLIMITED.withBatchLimit(limit);
+    }
+    
+    public ExecutionBudget withTaskLimit(Duration limit) {
+        return new ExecutionBudget(positive(limit), batchLimit, timeoutPolicy);
+    }
+    
+    public ExecutionBudget withBatchLimit(Duration limit) {
+        return new ExecutionBudget(taskLimit, positive(limit), timeoutPolicy);
+    }
+    
+    public ExecutionBudget onTimeout(TimeoutPolicy policy) {
+        return new ExecutionBudget(taskLimit, batchLimit, Objects.requireNonNull(policy, "Timeout policy cannot be null"));
+    }
+    
+    public Optional<Duration> getTaskLimit() {
+        return Optional.ofNullable(taskLimit);
+    }
+    
+    public Optional<Duration> getBatchLimit() {
+        return Optional.ofNullable(batchLimit);
+    }
+    
+    public TimeoutPolicy getTimeoutPolicy() {
+        return timeoutPolicy;
+    }
+    
+    private static Duration positive(Duration limit) {
+        Objects.requireNonNull(limit, "Limit cannot be null");
+        if (limit.isNegative() || limit.isZero()) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        return limit;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.taskflow.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One task run on one worker. A timer may interrupt the worker only while this run is
+// still going, never once the worker has moved on to another task.
+final class ExecutionGuard {
+    
+    private static final int RUNNING = 0;
+    private static final int INTERRUPTING = 1;
+    private static final int TIMED_OUT = 2;
+    private static final int FINISHED = 3;
+    
+    private final Thread worker;
+    private final AtomicInteger state;
+    
+    ExecutionGuard(Thread worker) {
+        this.worker = worker;
+        this.state = new AtomicInteger(RUNNING);
+    }
+    
+    void timeOut() {
+        if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+            worker.interrupt();
+            state.set(TIMED_OUT);
+        }
+    }
+    
+    // Called once by the worker when the run ends. Returns whether it timed out, after
+    // waiting out an interrupt in flight and clearing it from the worker.
+    boolean finish() {
+        if (state.compareAndSet(RUNNING, FINISHED)) {
+            return false;
+        }
+        while (state.get() == INTERRUPTING) {
+            Thread.onSpinWait();
+        }
+        Thread.interrupted();
+        return true;
+    }
+}
\ No newline at end of file
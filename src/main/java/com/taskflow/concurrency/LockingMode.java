@@ -0,0 +1,16 @@
+package com.taskflow.concurrency;
+
+public enum LockingMode {
+    READ_WRITE_LOCK("Global read/write lock"),
+    LOCK_FREE("ConcurrentHashMap atomics only");
+    
+    private final String description;
+    
+    LockingMode(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
\ No newline at end of file
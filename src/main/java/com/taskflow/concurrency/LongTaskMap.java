@@ -0,0 +1,363 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Task;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+// Concurrent open-addressing map from a positive long key to a Task. Keys are spread
+// over segments; each segment is a Robin Hood linear-probing table with backward-shift
+// deletion (no tombstones), written under its lock and read optimistically.
+final class LongTaskMap {
+    
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY = 0L;
+    
+    private final Segment[] segments;
+    
+    LongTaskMap() {
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+    
+    Task get(long key) {
+        long hash = mix(key);
+        return segmentFor(hash).get(key, hash);
+    }
+    
+    Task put(long key, Task value) {
+        long hash = mix(key);
+        return segmentFor(hash).put(key, hash, value, false);
+    }
+    
+    Task putIfAbsent(long key, Task value) {
+        long hash = mix(key);
+        return segmentFor(hash).put(key, hash, value, true);
+    }
+    
+    Task remove(long key) {
+        long hash = mix(key);
+        return segmentFor(hash).remove(key, hash);
+    }
+    
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+    
+    // Weakly consistent like ConcurrentHashMap iteration: each segment is copied into a
+    // reused buffer and the action runs with no lock held, so it may call back into the map.
+    void forEach(Consumer<? super Task> action) {
+        Task[] buffer = new Task[INITIAL_CAPACITY];
+        for (Segment segment : segments) {
+            buffer = segment.values(buffer);
+            for (int i = 0; i < buffer.length && buffer[i] != null; i++) {
+                action.accept(buffer[i]);
+            }
+        }
+    }
+    
+    // Same guarantees as forEach. Splits by segment range; the only copy is one segment
+    // at a time into a buffer owned by the spliterator.
+    Spliterator<Task> spliterator() {
+        return new ValueSpliterator(0, SEGMENTS);
+    }
+    
+    void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+    
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> (64 - SEGMENT_BITS))];
+    }
+    
+    // Packed IDs differ mostly in their low bits, so every bit is spread before the top
+    // bits pick a segment and the low bits a slot.
+    private static long mix(long key) {
+        long h = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+    
+    private static final class Table {
+        final long[] keys;
+        final Task[] values;
+        
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Task[capacity];
+        }
+    }
+    
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table = new Table(INITIAL_CAPACITY);
+        private volatile int size;
+        
+        Task get(long key, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            Task found = find(table, key, hash);
+            if (lock.validate(stamp)) {
+                return found;
+            }
+            stamp = lock.readLock();
+            try {
+                return find(table, key, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        
+        // Robin Hood order: along a probe run, entries never sit closer to their home
+        // slot than the entry before them, so a search can stop at the first entry that
+        // is closer to home than the key would be. The loop is bounded by the table
+        // length so a torn optimistic read still terminates.
+        private static Task find(Table current, long key, long hash) {
+            int index = indexOf(current, key, hash);
+            return index >= 0 ? current.values[index] : null;
+        }
+        
+        private static int indexOf(Table current, long key, long hash) {
+            long[] keys = current.keys;
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            for (int distance = 0; distance < keys.length; distance++) {
+                long candidate = keys[index];
+                if (candidate == key) {
+                    return index;
+                }
+                if (candidate == EMPTY || distance(candidate, index, mask) < distance) {
+                    return -1;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+        
+        Task put(long key, long hash, Task value, boolean onlyIfAbsent) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int index = indexOf(current, key, hash);
+                if (index >= 0) {
+                    Task previous = current.values[index];
+                    if (!onlyIfAbsent) {
+                        current.values[index] = value;
+                    }
+                    return previous;
+                }
+                if ((size + 1) * 4L > current.keys.length * 3L) {
+                    current = resize(current, current.keys.length << 1);
+                    table = current;
+                }
+                insert(current, key, hash, value);
+                size++;
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        
+        Task remove(long key, long hash) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int index = indexOf(current, key, hash);
+                if (index < 0) {
+                    return null;
+                }
+                Task removed = current.values[index];
+                shiftBack(current, index);
+                size--;
+                return removed;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        
+        // Displaces any entry that is closer to its home slot than the one being placed.
+        private static void insert(Table current, long key, long hash, Task value) {
+            long[] keys = current.keys;
+            Task[] values = current.values;
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            int distance = 0;
+            while (keys[index] != EMPTY) {
+                int residentDistance = distance(keys[index], index, mask);
+                if (residentDistance < distance) {
+                    long displacedKey = keys[index];
+                    Task displacedValue = values[index];
+                    keys[index] = key;
+                    values[index] = value;
+                    key = displacedKey;
+                    value = displacedValue;
+                    distance = residentDistance;
+                }
+                index = (index + 1) & mask;
+                distance++;
+            }
+            values[index] = value;
+            keys[index] = key;
+        }
+        
+        // Pulls the rest of the probe run back one slot so no deleted markers are needed.
+        private static void shiftBack(Table current, int freed) {
+            long[] keys = current.keys;
+            Task[] values = current.values;
+            int mask = keys.length - 1;
+            int gap = freed;
+            int next = (gap + 1) & mask;
+            while (keys[next] != EMPTY && distance(keys[next], next, mask) > 0) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+                next = (next + 1) & mask;
+            }
+            keys[gap] = EMPTY;
+            values[gap] = null;
+        }
+        
+        private static int distance(long key, int index, int mask) {
+            return (index - (int) mix(key)) & mask;
+        }
+        
+        private static Table resize(Table current, int capacity) {
+            Table resized = new Table(capacity);
+            long[] keys = current.keys;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    insert(resized, keys[i], mix(keys[i]), current.values[i]);
+                }
+            }
+            return resized;
+        }
+        
+        // Fills buffer (or a larger replacement, which is returned) with the segment's
+        // values followed by a null, trying an optimistic read before taking the lock.
+        Task[] values(Task[] buffer) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Task[] copy = copyValues(table, buffer);
+                if (lock.validate(stamp)) {
+                    return copy;
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return copyValues(table, buffer);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        
+        private static Task[] copyValues(Table current, Task[] buffer) {
+            int count = 0;
+            for (Task value : current.values) {
+                if (value != null) {
+                    if (count == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                    buffer[count++] = value;
+                }
+            }
+            if (count < buffer.length) {
+                buffer[count] = null;
+            }
+            return buffer;
+        }
+        
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                table = new Table(INITIAL_CAPACITY);
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+    
+    private final class ValueSpliterator implements Spliterator<Task> {
+        
+        private int nextSegment;
+        private final int endSegment;
+        private Task[] buffer;
+        private int position;
+        
+        ValueSpliterator(int fromSegment, int endSegment) {
+            this.nextSegment = fromSegment;
+            this.endSegment = endSegment;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super Task> action) {
+            while (buffer == null || position == buffer.length || buffer[position] == null) {
+                if (nextSegment == endSegment) {
+                    return false;
+                }
+                buffer = segments[nextSegment++].values(buffer == null ? new Task[INITIAL_CAPACITY] : buffer);
+                position = 0;
+            }
+            action.accept(buffer[position++]);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(Consumer<? super Task> action) {
+            if (buffer != null) {
+                drain(action);
+            }
+            while (nextSegment < endSegment) {
+                buffer = segments[nextSegment++].values(buffer == null ? new Task[INITIAL_CAPACITY] : buffer);
+                position = 0;
+                drain(action);
+            }
+        }
+        
+        private void drain(Consumer<? super Task> action) {
+            Task[] values = buffer;
+            int i = position;
+            for (; i < values.length && values[i] != null; i++) {
+                action.accept(values[i]);
+            }
+            position = i;
+        }
+        
+        // Only whole, not yet loaded segments are handed off.
+        @Override
+        public Spliterator<Task> trySplit() {
+            int remaining = endSegment - nextSegment;
+            if (remaining < 2) {
+                return null;
+            }
+            int from = nextSegment;
+            nextSegment += remaining / 2;
+            return new ValueSpliterator(from, nextSegment);
+        }
+        
+        @Override
+        public long estimateSize() {
+            long estimate = 0;
+            for (int i = nextSegment; i < endSegment; i++) {
+                estimate += segments[i].size;
+            }
+            return estimate;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.taskflow.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+final class NoOpReadWriteLock implements ReadWriteLock {
+    
+    private static final Lock NO_OP = new Lock() {
+        @Override
+        public void lock() {
+        }
+        
+        @Override
+        public void lockInterruptibly() {
+        }
+        
+        @Override
+        public boolean tryLock() {
+            return true;
+        }
+        
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) {
+            return true;
+        }
+        
+        @Override
+        public void unlock() {
+        }
+        
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("No-op lock has no conditions");
+        }
+    };
+    
+    @Override
+    public Lock readLock() {
+        return NO_OP;
+    }
+    
+    @Override
+    public Lock writeLock() {
+        return NO_OP;
+    }
+}
\ No newline at end of file
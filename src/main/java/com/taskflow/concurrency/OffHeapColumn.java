@@ -0,0 +1,72 @@
+package com.taskflow.concurrency;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Fixed-width column in direct buffers of CHUNK_ROWS rows each, so it grows without
+// copying and its contents are never scanned or moved by the garbage collector.
+// Not thread-safe; the owning store guards it.
+final class OffHeapColumn {
+    
+    static final int CHUNK_BITS = 16;
+    static final int CHUNK_ROWS = 1 << CHUNK_BITS;
+    
+    private static final int ROW_MASK = CHUNK_ROWS - 1;
+    
+    private final int width;
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    
+    OffHeapColumn(int width) {
+        this.width = width;
+        this.chunks = new ByteBuffer[8];
+    }
+    
+    void ensureCapacity(int rows) {
+        int needed = (rows + ROW_MASK) >>> CHUNK_BITS;
+        if (needed > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(needed, chunks.length * 2));
+        }
+        while (chunkCount < needed) {
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(CHUNK_ROWS * width);
+        }
+    }
+    
+    // The chunk holding rows [index * CHUNK_ROWS, (index + 1) * CHUNK_ROWS), for scans.
+    ByteBuffer chunk(int index) {
+        return chunks[index];
+    }
+    
+    byte getByte(int row) {
+        return chunks[row >>> CHUNK_BITS].get(row & ROW_MASK);
+    }
+    
+    void putByte(int row, byte value) {
+        chunks[row >>> CHUNK_BITS].put(row & ROW_MASK, value);
+    }
+    
+    int getInt(int row) {
+        return chunks[row >>> CHUNK_BITS].getInt((row & ROW_MASK) << 2);
+    }
+    
+    void putInt(int row, int value) {
+        chunks[row >>> CHUNK_BITS].putInt((row & ROW_MASK) << 2, value);
+    }
+    
+    long getLong(int row) {
+        return chunks[row >>> CHUNK_BITS].getLong((row & ROW_MASK) << 3);
+    }
+    
+    void putLong(int row, long value) {
+        chunks[row >>> CHUNK_BITS].putLong((row & ROW_MASK) << 3, value);
+    }
+    
+    long offHeapBytes() {
+        return (long) chunkCount * CHUNK_ROWS * width;
+    }
+    
+    void clear() {
+        chunks = new ByteBuffer[8];
+        chunkCount = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+// Callbacks for one task ID arrive one at a time, in the order the repository applied
+// them, and always describe the task's state at the moment of the call. They run
+// inside the repository's index stripe, so they must be quick; anything that has to
+// wait (an fsync, a slow consumer) belongs in afterChange().
+public interface RepositoryListener {
+    
+    default void onTaskAdded(Task task) {
+    }
+    
+    default void onTaskRemoved(Task task) {
+    }
+    
+    default void onStatusChanged(Task task, TaskStatus previous, TaskStatus current) {
+    }
+    
+    default void onAssigneeChanged(Task task, String previous, String current) {
+    }
+    
+    default void onCleared() {
+    }
+    
+    // Runs on the mutating thread after the change is visible and every stripe and
+    // repository lock has been released.
+    default void afterChange() {
+    }
+}
\ No newline at end of file
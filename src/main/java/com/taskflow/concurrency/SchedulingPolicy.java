@@ -0,0 +1,16 @@
+package com.taskflow.concurrency;
+
+public enum SchedulingPolicy {
+    FIFO("Submission order"),
+    PRIORITY("Priority, then deadline");
+    
+    private final String description;
+    
+    SchedulingPolicy(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,275 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Task;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+// The ordering must only read fields that never change after a task is built
+// (priority, deadline, creation date, title, ID): entries are not re-sorted in place.
+public class SortedTaskView implements Iterable<Task> {
+    
+    // A bulk add at least 1/REBUILD_RATIO the size of the view rebuilds it.
+    private static final int REBUILD_RATIO = 8;
+    
+    private final Comparator<Task> ordering;
+    private final Comparator<Task> entryOrder;
+    private final Predicate<Task> filter;
+    private volatile ConcurrentSkipListMap<Task, Boolean> ordered;
+    private final TaskIdMap members;
+    
+    SortedTaskView(Comparator<Task> ordering, Predicate<Task> filter) {
+        this.ordering = ordering;
+        this.entryOrder = ordering.thenComparing(Task::getTaskId);
+        this.filter = filter;
+        this.ordered = new ConcurrentSkipListMap<>(entryOrder);
+        this.members = new TaskIdMap();
+    }
+    
+    // Called by the repository with updates for a given ID already serialized.
+    void update(String taskId, Task current) {
+        boolean accepted = current != null && filter.test(current);
+        Task previous = accepted ? members.put(taskId, current) : members.remove(taskId);
+        if (previous != null && (previous != current || !accepted)) {
+            ordered.remove(previous);
+        }
+        if (accepted) {
+            ordered.put(current, Boolean.TRUE);
+        }
+    }
+    
+    // Called by the repository for tasks whose IDs are new, with every update stripe
+    // held. A batch that is large next to the view is merged with the current entries
+    // and the skip list is rebuilt from the sorted run in linear time, which skips the
+    // per-insert search and its comparisons; readers keep iterating the old list.
+    void addAll(List<Task> added) {
+        List<Task> accepted = new ArrayList<>(added.size());
+        for (Task task : added) {
+            if (filter.test(task)) {
+                members.put(task.getTaskId(), task);
+                accepted.add(task);
+            }
+        }
+        Task[] sorted = accepted.toArray(new Task[0]);
+        Arrays.parallelSort(sorted, entryOrder);
+        
+        ConcurrentSkipListMap<Task, Boolean> current = ordered;
+        if (sorted.length < current.size() / REBUILD_RATIO) {
+            for (Task task : sorted) {
+                current.put(task, Boolean.TRUE);
+            }
+            return;
+        }
+        Task[] merged = new Task[current.size() + sorted.length];
+        Iterator<Task> existing = current.keySet().iterator();
+        Task next = existing.hasNext() ? existing.next() : null;
+        int i = 0;
+        int j = 0;
+        while (next != null || j < sorted.length) {
+            if (next != null && (j == sorted.length || entryOrder.compare(next, sorted[j]) < 0)) {
+                merged[i++] = next;
+                next = existing.hasNext() ? existing.next() : null;
+            } else {
+                merged[i++] = sorted[j++];
+            }
+        }
+        ordered = new ConcurrentSkipListMap<>(new SortedRun(merged, entryOrder));
+    }
+    
+    void clear() {
+        members.clear();
+        ordered.clear();
+    }
+    
+    public Comparator<Task> getOrdering() {
+        return ordering;
+    }
+    
+    public int size() {
+        return members.size();
+    }
+    
+    public List<Task> head(int limit) {
+        List<Task> result = new ArrayList<>(Math.min(limit, members.size()));
+        Iterator<Task> iterator = ordered.keySet().iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+    
+    // Up to limit tasks strictly after the given one in view order, or from the start
+    // when it is null. The skip list seeks straight to the position, so a page costs
+    // O(log n + limit) however deep it is, and after need not still be in the view.
+    public List<Task> pageAfter(Task after, int limit) {
+        Map<Task, Boolean> from = after == null ? ordered : ordered.tailMap(after, false);
+        List<Task> result = new ArrayList<>(Math.min(limit, members.size()));
+        Iterator<Task> iterator = from.keySet().iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+    
+    public List<Task> headWhile(Predicate<Task> condition) {
+        List<Task> result = new ArrayList<>();
+        for (Task task : ordered.keySet()) {
+            if (!condition.test(task)) {
+                break;
+            }
+            result.add(task);
+        }
+        return result;
+    }
+    
+    // Tasks from the given one onwards in view order, for as long as the condition
+    // holds. The skip list seeks straight to the start, so entries before it are never
+    // visited, and from need not be in the view.
+    public List<Task> rangeWhile(Task from, Predicate<Task> condition) {
+        List<Task> result = new ArrayList<>();
+        for (Task task : ordered.tailMap(from, true).keySet()) {
+            if (!condition.test(task)) {
+                break;
+            }
+            result.add(task);
+        }
+        return result;
+    }
+    
+    public List<Task> toList() {
+        return new ArrayList<>(ordered.keySet());
+    }
+    
+    @Override
+    public Iterator<Task> iterator() {
+        return Collections.unmodifiableCollection(ordered.keySet()).iterator();
+    }
+    
+    // Read-only sorted map over a range of an already sorted array. The
+    // ConcurrentSkipListMap constructor builds from a SortedMap in linear time without
+    // comparing; range views and lookups binary-search the array.
+    private static final class SortedRun extends AbstractMap<Task, Boolean> implements SortedMap<Task, Boolean> {
+        
+        private final Task[] tasks;
+        private final int from;
+        private final int to;
+        private final Comparator<Task> order;
+        
+        SortedRun(Task[] tasks, Comparator<Task> order) {
+            this(tasks, 0, tasks.length, order);
+        }
+        
+        private SortedRun(Task[] tasks, int from, int to, Comparator<Task> order) {
+            this.tasks = tasks;
+            this.from = from;
+            this.to = to;
+            this.order = order;
+        }
+        
+        @Override
+        public Comparator<? super Task> comparator() {
+            return order;
+        }
+        
+        @Override
+        public Set<Map.Entry<Task, Boolean>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<Task, Boolean>> iterator() {
+                    return new Iterator<>() {
+                        private int next = from;
+                        
+                        @Override
+                        public boolean hasNext() {
+                            return next < to;
+                        }
+                        
+                        @Override
+                        public Map.Entry<Task, Boolean> next() {
+                            if (next == to) {
+                                throw new NoSuchElementException();
+                            }
+                            return new AbstractMap.SimpleImmutableEntry<>(tasks[next++], Boolean.TRUE);
+                        }
+                    };
+                }
+                
+                @Override
+                public int size() {
+                    return to - from;
+                }
+            };
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            if (!(key instanceof Task)) {
+                return false;
+            }
+            int index = lowerBound((Task) key);
+            return index < to && order.compare(tasks[index], (Task) key) == 0;
+        }
+        
+        @Override
+        public Task firstKey() {
+            if (from == to) {
+                throw new NoSuchElementException();
+            }
+            return tasks[from];
+        }
+        
+        @Override
+        public Task lastKey() {
+            if (from == to) {
+                throw new NoSuchElementException();
+            }
+            return tasks[to - 1];
+        }
+        
+        @Override
+        public SortedMap<Task, Boolean> subMap(Task fromKey, Task toKey) {
+            if (order.compare(fromKey, toKey) > 0) {
+                throw new IllegalArgumentException("fromKey is after toKey");
+            }
+            int start = lowerBound(fromKey);
+            return new SortedRun(tasks, start, Math.max(start, lowerBound(toKey)), order);
+        }
+        
+        @Override
+        public SortedMap<Task, Boolean> headMap(Task toKey) {
+            return new SortedRun(tasks, from, lowerBound(toKey), order);
+        }
+        
+        @Override
+        public SortedMap<Task, Boolean> tailMap(Task fromKey) {
+            return new SortedRun(tasks, lowerBound(fromKey), to, order);
+        }
+        
+        // First index in this range whose task is not before key.
+        private int lowerBound(Task key) {
+            int low = from;
+            int high = to;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (order.compare(tasks[mid], key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
\ No newline at end of file
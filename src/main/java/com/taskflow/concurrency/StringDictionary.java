@@ -0,0 +1,152 @@
+package com.taskflow.concurrency;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Interns strings as dense int codes. The UTF-8 bytes live off-heap in append-only
+// pages, each prefixed with its length; a code maps to its page address through an
+// off-heap column, and lookups go through an off-heap open-addressing table of codes.
+// Not thread-safe; the owning store guards it.
+final class StringDictionary {
+    
+    static final int NONE = -1;
+    
+    private static final int PAGE_BYTES = 1 << 20;
+    private static final int INITIAL_SLOTS = 1 << 10;
+    
+    private final List<ByteBuffer> pages;
+    private final OffHeapColumn addresses;
+    private final OffHeapColumn hashes;
+    private ByteBuffer slots;
+    private int slotMask;
+    private int size;
+    private long pageBytes;
+    
+    StringDictionary() {
+        this.pages = new ArrayList<>();
+        this.addresses = new OffHeapColumn(Long.BYTES);
+        this.hashes = new OffHeapColumn(Integer.BYTES);
+        this.slots = newSlots(INITIAL_SLOTS);
+        this.slotMask = INITIAL_SLOTS - 1;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    int find(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes);
+        for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            int code = slots.getInt(slot << 2) - 1;
+            if (code == NONE) {
+                return NONE;
+            }
+            if (hashes.getInt(code) == hash && matches(code, bytes)) {
+                return code;
+            }
+        }
+    }
+    
+    // Returns the existing code for value, or assigns the next one.
+    int intern(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes);
+        int slot = hash & slotMask;
+        for (; ; slot = (slot + 1) & slotMask) {
+            int code = slots.getInt(slot << 2) - 1;
+            if (code == NONE) {
+                break;
+            }
+            if (hashes.getInt(code) == hash && matches(code, bytes)) {
+                return code;
+            }
+        }
+        
+        int code = size++;
+        addresses.ensureCapacity(size);
+        hashes.ensureCapacity(size);
+        addresses.putLong(code, append(bytes));
+        hashes.putInt(code, hash);
+        slots.putInt(slot << 2, code + 1);
+        if (size * 2L > slotMask + 1L) {
+            rehash((slotMask + 1) << 1);
+        }
+        return code;
+    }
+    
+    String get(int code) {
+        long address = addresses.getLong(code);
+        ByteBuffer page = pages.get((int) (address >>> 32));
+        int offset = (int) address;
+        byte[] bytes = new byte[page.getInt(offset)];
+        page.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    long offHeapBytes() {
+        return pageBytes + addresses.offHeapBytes() + hashes.offHeapBytes() + slots.capacity();
+    }
+    
+    void clear() {
+        pages.clear();
+        addresses.clear();
+        hashes.clear();
+        slots = newSlots(INITIAL_SLOTS);
+        slotMask = INITIAL_SLOTS - 1;
+        size = 0;
+        pageBytes = 0;
+    }
+    
+    private boolean matches(int code, byte[] bytes) {
+        long address = addresses.getLong(code);
+        ByteBuffer page = pages.get((int) (address >>> 32));
+        int offset = (int) address;
+        if (page.getInt(offset) != bytes.length) {
+            return false;
+        }
+        return page.slice(offset + Integer.BYTES, bytes.length).equals(ByteBuffer.wrap(bytes));
+    }
+    
+    // A value never straddles two pages; one larger than a page gets a page of its own.
+    private long append(byte[] bytes) {
+        int needed = Integer.BYTES + bytes.length;
+        ByteBuffer page = pages.isEmpty() ? null : pages.get(pages.size() - 1);
+        if (page == null || page.remaining() < needed) {
+            page = ByteBuffer.allocateDirect(Math.max(PAGE_BYTES, needed));
+            pages.add(page);
+            pageBytes += page.capacity();
+        }
+        int offset = page.position();
+        page.putInt(bytes.length).put(bytes);
+        return ((long) (pages.size() - 1) << 32) | offset;
+    }
+    
+    private void rehash(int slotCount) {
+        ByteBuffer resized = newSlots(slotCount);
+        int mask = slotCount - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = hashes.getInt(code) & mask;
+            while (resized.getInt(slot << 2) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            resized.putInt(slot << 2, code + 1);
+        }
+        slots = resized;
+        slotMask = mask;
+    }
+    
+    private static ByteBuffer newSlots(int slotCount) {
+        return ByteBuffer.allocateDirect(slotCount * Integer.BYTES);
+    }
+    
+    private static int hash(byte[] bytes) {
+        int h = 0x811C9DC5;
+        for (byte b : bytes) {
+            h = (h ^ b) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+}
\ No newline at end of file
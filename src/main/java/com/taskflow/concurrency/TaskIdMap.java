@@ -0,0 +1,93 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Task ID to task map used by the repository and its indexes. IDs of up to nine
+// 7-bit ASCII characters, which covers the builder's generated 8-hex-digit IDs, are
+// packed into a long and stored in a LongTaskMap; any other ID falls back to a
+// ConcurrentHashMap.
+final class TaskIdMap {
+    
+    static final long NOT_ENCODABLE = -1L;
+    
+    private static final int MAX_ENCODED_LENGTH = 9;
+    
+    private final LongTaskMap encoded;
+    private final ConcurrentHashMap<String, Task> fallback;
+    
+    TaskIdMap() {
+        this.encoded = new LongTaskMap();
+        this.fallback = new ConcurrentHashMap<>();
+    }
+    
+    // Seven bits per character with no zero characters allowed, so the leading group is
+    // never empty and IDs of different lengths land in disjoint ranges. The result is
+    // always positive, leaving 0 free as the empty-slot marker.
+    static long encode(String taskId) {
+        int length = taskId.length();
+        if (length == 0 || length > MAX_ENCODED_LENGTH) {
+            return NOT_ENCODABLE;
+        }
+        long code = 0;
+        for (int i = 0; i < length; i++) {
+            char c = taskId.charAt(i);
+            if (c == 0 || c > 0x7F) {
+                return NOT_ENCODABLE;
+            }
+            code = (code << 7) | c;
+        }
+        return code;
+    }
+    
+    Task get(String taskId) {
+        long key = encode(taskId);
+        return key != NOT_ENCODABLE ? encoded.get(key) : fallback.get(taskId);
+    }
+    
+    Task put(String taskId, Task task) {
+        long key = encode(taskId);
+        return key != NOT_ENCODABLE ? encoded.put(key, task) : fallback.put(taskId, task);
+    }
+    
+    Task putIfAbsent(String taskId, Task task) {
+        long key = encode(taskId);
+        return key != NOT_ENCODABLE ? encoded.putIfAbsent(key, task) : fallback.putIfAbsent(taskId, task);
+    }
+    
+    Task remove(String taskId) {
+        long key = encode(taskId);
+        return key != NOT_ENCODABLE ? encoded.remove(key) : fallback.remove(taskId);
+    }
+    
+    int size() {
+        return encoded.size() + fallback.size();
+    }
+    
+    void forEach(Consumer<? super Task> action) {
+        encoded.forEach(action);
+        fallback.values().forEach(action);
+    }
+    
+    // Weakly consistent and uncopied apart from one LongTaskMap segment at a time.
+    Stream<Task> stream() {
+        return Stream.concat(StreamSupport.stream(encoded.spliterator(), false), fallback.values().stream());
+    }
+    
+    List<Task> values() {
+        List<Task> values = new ArrayList<>(size());
+        forEach(values::add);
+        return values;
+    }
+    
+    void clear() {
+        encoded.clear();
+        fallback.clear();
+    }
+}
\ No newline at end of file
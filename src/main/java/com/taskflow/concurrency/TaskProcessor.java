@@ -1,34 +1,234 @@
 package com.taskflow.concurrency;
 
+import com.taskflow.core.domain.Priority;
 import com.taskflow.core.domain.Task;
 import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.metrics.LatencyHistogram;
+import com.taskflow.metrics.ProcessorMetrics;
+import com.taskflow.metrics.ProcessorMetricsSnapshot;
+import com.taskflow.timer.Timeout;
+import com.taskflow.timer.TimingWheel;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 public class TaskProcessor {
     
+    private static final int CHUNKS_PER_WORKER = 4;
+    
     private final ExecutorService executorService;
     private final ThreadSafeTaskRepository repository;
     private final AtomicInteger processedCount;
+    private final SchedulingPolicy schedulingPolicy;
+    private final ProcessorMetrics metrics;
+    private final Semaphore concurrencyLimit;
+    private final boolean virtualThreads;
+    private final int parallelism;
+    private final BoundedTaskQueue admissionQueue;
+    private final AdmissionPolicy admissionPolicy;
+    private TimingWheel budgetTimer;
     
     public TaskProcessor(ThreadSafeTaskRepository repository, int threadPoolSize) {
+        this(repository, threadPoolSize, SchedulingPolicy.FIFO);
+    }
+    
+    public TaskProcessor(ThreadSafeTaskRepository repository, int threadPoolSize, SchedulingPolicy schedulingPolicy) {
+        this(repository, newPool(threadPoolSize, schedulingPolicy), schedulingPolicy, null, false, threadPoolSize,
+            null, null);
+    }
+    
+    private TaskProcessor(ThreadSafeTaskRepository repository, ExecutorService executorService,
+                          SchedulingPolicy schedulingPolicy, Semaphore concurrencyLimit, boolean virtualThreads,
+                          int parallelism, BoundedTaskQueue admissionQueue, AdmissionPolicy admissionPolicy) {
         this.repository = repository;
-        this.executorService = Executors.newFixedThreadPool(threadPoolSize);
+        this.schedulingPolicy = Objects.requireNonNull(schedulingPolicy, "Scheduling policy cannot be null");
+        this.executorService = executorService;
+        this.concurrencyLimit = concurrencyLimit;
+        this.virtualThreads = virtualThreads;
+        this.parallelism = parallelism;
+        this.admissionQueue = admissionQueue;
+        this.admissionPolicy = admissionPolicy;
         this.processedCount = new AtomicInteger(0);
+        this.metrics = new ProcessorMetrics();
+        if (admissionQueue != null) {
+            ((ThreadPoolExecutor) executorService).setRejectedExecutionHandler(this::admitOverflow);
+        }
+    }
+    
+    // At most queueCapacity submissions wait for a worker; the admission policy decides
+    // what happens to the next one. Rejected and shed tasks never run, keep their status
+    // and fail their future with a RejectedExecutionException.
+    public static TaskProcessor bounded(ThreadSafeTaskRepository repository, int threadPoolSize, int queueCapacity,
+                                        AdmissionPolicy admissionPolicy) {
+        return bounded(repository, threadPoolSize, SchedulingPolicy.FIFO, queueCapacity, admissionPolicy);
+    }
+    
+    public static TaskProcessor bounded(ThreadSafeTaskRepository repository, int threadPoolSize,
+                                        SchedulingPolicy schedulingPolicy, int queueCapacity,
+                                        AdmissionPolicy admissionPolicy) {
+        Objects.requireNonNull(schedulingPolicy, "Scheduling policy cannot be null");
+        Objects.requireNonNull(admissionPolicy, "Admission policy cannot be null");
+        BoundedTaskQueue queue = new BoundedTaskQueue(queueCapacity, schedulingPolicy);
+        ExecutorService pool = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS, queue);
+        return new TaskProcessor(repository, pool, schedulingPolicy, null, false, threadPoolSize, queue, admissionPolicy);
+    }
+    
+    // Runs every task on its own virtual thread, with at most maxConcurrency of them
+    // inside processTask at once. Virtual threads need Java 21; on older runtimes this
+    // falls back to a fixed pool of maxConcurrency platform threads.
+    public static TaskProcessor virtualThreads(ThreadSafeTaskRepository repository, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive: " + maxConcurrency);
+        }
+        ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+        if (virtualExecutor == null) {
+            return new TaskProcessor(repository, maxConcurrency);
+        }
+        return new TaskProcessor(repository, virtualExecutor, SchedulingPolicy.FIFO,
+            new Semaphore(maxConcurrency, true), true, maxConcurrency, null, null);
+    }
+    
+    private static ExecutorService newPool(int threadPoolSize, SchedulingPolicy schedulingPolicy) {
+        BlockingQueue<Runnable> workQueue = schedulingPolicy == SchedulingPolicy.PRIORITY
+            ? new PriorityBlockingQueue<>()
+            : new LinkedBlockingQueue<>();
+        return new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS, workQueue);
+    }
+    
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
     }
     
+    // Under bounded admission with the BLOCK policy this returns only once the last
+    // task has been queued.
     public CompletableFuture<Void> processTasks(List<Task> tasks) {
+        return processTasks(tasks, ExecutionBudget.unlimited());
+    }
+    
+    // A task that runs out of budget is interrupted, which frees its worker at once, and
+    // moved to CANCELLED or back to PENDING as the budget says. Like a task cancelled by
+    // shutdown, it still completes its future normally; its status tells the outcome.
+    public CompletableFuture<Void> processTasks(List<Task> tasks, ExecutionBudget budget) {
+        Objects.requireNonNull(budget, "Budget cannot be null");
+        BatchRun batch = budget.getBatchLimit().isPresent() ? new BatchRun() : null;
+        Timeout batchLimit = batch == null ? null
+            : budgetTimer().scheduleAfter(budget.getBatchLimit().get().toMillis(), TimeUnit.MILLISECONDS, batch::expire);
+        metrics.tasksQueued(tasks.size());
         List<CompletableFuture<Void>> futures = tasks.stream()
-            .map(task -> CompletableFuture.runAsync(() -> processTask(task), executorService))
+            .map(task -> {
+                long queuedAt = System.nanoTime();
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                dispatch(task, 1, () -> {
+                    try {
+                        processTask(task, queuedAt, budget, batch);
+                        future.complete(null);
+                    } catch (Throwable e) {
+                        future.completeExceptionally(new CompletionException(e));
+                    }
+                }, future::completeExceptionally);
+                return future;
+            })
             .toList();
         
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        if (batchLimit != null) {
+            all.whenComplete((result, error) -> batchLimit.cancel());
+        }
+        return all;
+    }
+    
+    public CompletableFuture<Void> processTasksInChunks(List<Task> tasks) {
+        int chunkSize = (tasks.size() + parallelism * CHUNKS_PER_WORKER - 1) / (parallelism * CHUNKS_PER_WORKER);
+        return processTasksInChunks(tasks, Math.max(1, chunkSize));
+    }
+    
+    // One worker runs each chunk and one future covers the whole batch. A task that
+    // throws does not stop the rest of its chunk; the batch fails with the first error,
+    // the same way allOf does in processTasks.
+    public CompletableFuture<Void> processTasksInChunks(List<Task> tasks, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        CompletableFuture<Void> batch = new CompletableFuture<>();
+        List<Task> snapshot = List.copyOf(tasks);
+        if (snapshot.isEmpty()) {
+            batch.complete(null);
+            return batch;
+        }
+        
+        int chunkCount = (snapshot.size() + chunkSize - 1) / chunkSize;
+        AtomicInteger remaining = new AtomicInteger(chunkCount);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable chunkDone = () -> {
+            if (remaining.decrementAndGet() == 0) {
+                Throwable error = failure.get();
+                if (error == null) {
+                    batch.complete(null);
+                } else {
+                    batch.completeExceptionally(new CompletionException(error));
+                }
+            }
+        };
+        metrics.tasksQueued(snapshot.size());
+        
+        for (int from = 0; from < snapshot.size(); from += chunkSize) {
+            List<Task> chunk = snapshot.subList(from, Math.min(from + chunkSize, snapshot.size()));
+            long queuedAt = System.nanoTime();
+            Runnable work = () -> {
+                try {
+                    for (Task task : chunk) {
+                        try {
+                            processTask(task, queuedAt);
+                        } catch (RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                        }
+                    }
+                } finally {
+                    chunkDone.run();
+                }
+            };
+            dispatch(chunk.get(0), chunk.size(), work, error -> {
+                failure.compareAndSet(null, error);
+                chunkDone.run();
+            });
+        }
+        return batch;
     }
     
-    private void processTask(Task task) {
+    private void processTask(Task task, long queuedAt) {
+        processTask(task, queuedAt, ExecutionBudget.unlimited(), null);
+    }
+    
+    // Queue wait runs from submission until this starts, so for a chunked batch it
+    // includes the time spent behind earlier tasks of the same chunk. The task's time
+    // limit is a timer on the shared wheel, not a watchdog thread per task.
+    private void processTask(Task task, long queuedAt, ExecutionBudget budget, BatchRun batch) {
+        Priority priority = task.getPriority();
+        long startedAt = metrics.taskStarted(priority, queuedAt);
+        ExecutionGuard guard = new ExecutionGuard(Thread.currentThread());
+        Timeout limit = null;
+        boolean interrupted = false;
         try {
+            if (batch != null && !batch.enter(guard)) {
+                guard.timeOut();
+                return;
+            }
+            if (budget.getTaskLimit().isPresent()) {
+                limit = budgetTimer().scheduleAfter(budget.getTaskLimit().get().toMillis(), TimeUnit.MILLISECONDS,
+                    guard::timeOut);
+            }
+            
             Thread.sleep(100);
             
             task.updateStatus(TaskStatus.IN_PROGRESS);
@@ -39,22 +239,156 @@ public class TaskProcessor {
             processedCount.incrementAndGet();
             
         } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            task.updateStatus(TaskStatus.CANCELLED);
+            interrupted = true;
+        } finally {
+            if (limit != null) {
+                limit.cancel();
+            }
+            if (batch != null) {
+                batch.exit(guard);
+            }
+            if (guard.finish() && task.getStatus().isActive()) {
+                metrics.taskTimedOut();
+                TaskStatus next = budget.getTimeoutPolicy() == TimeoutPolicy.REQUEUE
+                    ? TaskStatus.PENDING
+                    : TaskStatus.CANCELLED;
+                if (task.getStatus() != next) {
+                    task.updateStatus(next);
+                }
+            } else if (interrupted) {
+                Thread.currentThread().interrupt();
+                task.updateStatus(TaskStatus.CANCELLED);
+            }
+            metrics.taskFinished(priority, queuedAt, startedAt);
         }
     }
     
     public Future<Task> processTaskAsync(Task task) {
-        return executorService.submit(() -> {
-            processTask(task);
+        return processTaskAsync(task, ExecutionBudget.unlimited());
+    }
+    
+    // A batch limit here covers this one task from submission, queueing included.
+    public Future<Task> processTaskAsync(Task task, ExecutionBudget budget) {
+        Objects.requireNonNull(budget, "Budget cannot be null");
+        BatchRun batch = budget.getBatchLimit().isPresent() ? new BatchRun() : null;
+        Timeout batchLimit = batch == null ? null
+            : budgetTimer().scheduleAfter(budget.getBatchLimit().get().toMillis(), TimeUnit.MILLISECONDS, batch::expire);
+        metrics.tasksQueued(1);
+        long queuedAt = System.nanoTime();
+        TaskFuture future = new TaskFuture(() -> {
+            try {
+                processTask(task, queuedAt, budget, batch);
+            } finally {
+                if (batchLimit != null) {
+                    batchLimit.cancel();
+                }
+            }
             return task;
         });
+        dispatch(task, 1, future, future::reject);
+        return future;
+    }
+    
+    // Every submission goes through a DispatchedTask so the priority queue can order it
+    // the same way under both policies, and so bounded admission can fail its future.
+    private void dispatch(Task task, int taskCount, Runnable work, Consumer<Throwable> onRejected) {
+        DispatchedTask dispatched = new DispatchedTask(task, work, taskCount, onRejected);
+        if (concurrencyLimit == null) {
+            executorService.execute(dispatched);
+        } else {
+            executorService.execute(() -> runWithPermit(dispatched));
+        }
+    }
+    
+    // Called by the pool when the bounded queue is full (or the pool is shut down).
+    private void admitOverflow(Runnable command, ThreadPoolExecutor pool) {
+        DispatchedTask task = (DispatchedTask) command;
+        if (pool.isShutdown()) {
+            reject(task, "Processor is shut down");
+            return;
+        }
+        switch (admissionPolicy) {
+            case BLOCK:
+                try {
+                    admissionQueue.put(task);
+                    if (pool.isShutdown() && admissionQueue.remove(task)) {
+                        reject(task, "Processor is shut down");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    reject(task, "Interrupted while waiting for queue space");
+                }
+                break;
+            case SHED_LOWEST_PRIORITY:
+                DispatchedTask victim = admissionQueue.offerShedding(task);
+                if (victim == task) {
+                    reject(task, "Queue is full (capacity " + admissionQueue.getCapacity()
+                        + ") and holds nothing below " + task.getPriority());
+                } else if (victim != null) {
+                    metrics.tasksShed(victim.getTaskCount());
+                    victim.reject(new AdmissionException(
+                        "Shed " + victim.getPriority() + " task to admit higher-priority work"));
+                }
+                break;
+            default:
+                reject(task, "Queue is full (capacity " + admissionQueue.getCapacity() + ")");
+                break;
+        }
+    }
+    
+    private void reject(DispatchedTask task, String reason) {
+        metrics.tasksRejected(task.getTaskCount());
+        task.reject(new AdmissionException(reason));
+    }
+    
+    // An interrupted waiter still runs the task so that processTask cancels it and its
+    // future completes instead of hanging.
+    private void runWithPermit(Runnable work) {
+        boolean acquired = false;
+        try {
+            concurrencyLimit.acquire();
+            acquired = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            work.run();
+        } finally {
+            if (acquired) {
+                concurrencyLimit.release();
+            }
+        }
     }
     
     public int getProcessedCount() {
         return processedCount.get();
     }
     
+    public int getParallelism() {
+        return parallelism;
+    }
+    
+    public SchedulingPolicy getSchedulingPolicy() {
+        return schedulingPolicy;
+    }
+    
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+    
+    // Null unless created with bounded().
+    public AdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+    
+    public LatencyHistogram getQueueWaitHistogram(Priority priority) {
+        return metrics.getQueueWaitHistogram(priority);
+    }
+    
+    public ProcessorMetricsSnapshot getMetricsSnapshot() {
+        return metrics.snapshot();
+    }
+    
     public void shutdown() {
         executorService.shutdown();
         try {
@@ -65,5 +399,71 @@ public class TaskProcessor {
             executorService.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        synchronized (this) {
+            if (budgetTimer != null) {
+                budgetTimer.close();
+            }
+        }
+    }
+    
+    // Started on first use, so processors that never set a budget have no ticker thread.
+    private synchronized TimingWheel budgetTimer() {
+        if (budgetTimer == null) {
+            budgetTimer = new TimingWheel();
+        }
+        return budgetTimer;
+    }
+    
+    // Workers of one budgeted batch, so that its limit can interrupt all of them.
+    private static final class BatchRun {
+        
+        private final Set<ExecutionGuard> running = ConcurrentHashMap.newKeySet();
+        private volatile boolean expired;
+        
+        // False once the limit has passed; the task then times out without running.
+        boolean enter(ExecutionGuard guard) {
+            running.add(guard);
+            if (expired) {
+                running.remove(guard);
+                return false;
+            }
+            return true;
+        }
+        
+        void exit(ExecutionGuard guard) {
+            running.remove(guard);
+        }
+        
+        void expire() {
+            expired = true;
+            running.forEach(ExecutionGuard::timeOut);
+        }
+    }
+    
+    // Thrown into futures by the thousand during an overflowing burst; the submitting
+    // call site is all a stack trace would show, so none is captured.
+    private static final class AdmissionException extends RejectedExecutionException {
+        
+        private static final long serialVersionUID = 1L;
+        
+        AdmissionException(String message) {
+            super(message);
+        }
+        
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+    
+    private static final class TaskFuture extends FutureTask<Task> {
+        
+        TaskFuture(Callable<Task> work) {
+            super(work);
+        }
+        
+        void reject(Throwable cause) {
+            setException(cause);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,324 @@
+package com.taskflow.concurrency;
+
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.metrics.ProcessorMetricsSnapshot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+public class TaskProcessorTest {
+
+    public static void main(String[] args) {
+        TaskProcessorTest test = new TaskProcessorTest();
+        test.runAllTests();
+    }
+
+    public void runAllTests() {
+        System.out.println("Running TaskProcessor Tests...\n");
+
+        testPriorityDispatchUnderSaturatedWorker();
+        testChunkIsolatesTaskFailures();
+        testMetricsAfterKnownWorkload();
+        testBoundedQueueRejectsOverflow();
+        testShedsLowestPriorityFirst();
+        testIncomingLowestPriorityIsRejected();
+        testTaskBudgetFreesWorker();
+        testBatchBudgetCoversQueuedTasks();
+
+        System.out.println("\n✓ All TaskProcessor tests passed!");
+    }
+
+    // The single worker is busy with the first task while the rest queue up; they must
+    // then run by priority, with the earlier deadline first among equal priorities.
+    private void testPriorityDispatchUnderSaturatedWorker() {
+        System.out.println("Test: Priority Dispatch Under Saturated Worker");
+
+        ThreadSafeTaskRepository repository = new ThreadSafeTaskRepository();
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        repository.addListener(new RepositoryListener() {
+            @Override
+            public void onStatusChanged(Task task, TaskStatus previous, TaskStatus current) {
+                if (current == TaskStatus.COMPLETED) {
+                    completed.add(task.getTaskId());
+                }
+            }
+        });
+        TaskProcessor processor = new TaskProcessor(repository, 1, SchedulingPolicy.PRIORITY);
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = List.of(
+            task("RUNNING", Priority.LOW),
+            task("LOW", Priority.LOW),
+            task("HIGH-LATE", Priority.HIGH, now.plusDays(2)),
+            task("CRITICAL", Priority.CRITICAL),
+            task("MEDIUM", Priority.MEDIUM),
+            task("HIGH-SOON", Priority.HIGH, now.plusHours(1)));
+        tasks.forEach(repository::addTask);
+        List<Future<Task>> futures = new ArrayList<>();
+        for (Task task : tasks) {
+            futures.add(processor.processTaskAsync(task));
+        }
+        awaitAll(futures);
+
+        assertEqual(List.of("RUNNING", "CRITICAL", "HIGH-SOON", "HIGH-LATE", "MEDIUM", "LOW"), completed,
+            "Queued tasks should run by priority, then deadline");
+        processor.shutdown();
+
+        System.out.println("  ✓ Passed\n");
+    }
+
+    // A cancelled task cannot be moved to IN_PROGRESS, so it throws inside its chunk; the
+    // task after it in the same chunk must still run and the batch report the failure.
+    private void testChunkIsolatesTaskFailures() {
+        System.out.println("Test: Chunk Isolates Task Failures");
+
+        TaskProcessor processor = new TaskProcessor(new ThreadSafeTaskRepository(), 2);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(task("CHUNK-" + i, Priority.MEDIUM));
+        }
+        tasks.get(0).updateStatus(TaskStatus.CANCELLED);
+
+        Throwable failure = null;
+        try {
+            processor.processTasksInChunks(tasks, 2).join();
+        } catch (CompletionException e) {
+            failure = e.getCause();
+        }
+
+        assertEqual(true, failure instanceof IllegalStateException, "Batch should fail with the task's error: " + failure);
+        assertEqual(TaskStatus.CANCELLED, tasks.get(0).getStatus(), "Failed task should keep its status");
+        assertEqual(TaskStatus.COMPLETED, tasks.get(1).getStatus(), "Task after the failure in its chunk should complete");
+        assertEqual(TaskStatus.COMPLETED, tasks.get(2).getStatus(), "Other chunks should complete");
+        assertEqual(TaskStatus.COMPLETED, tasks.get(3).getStatus(), "Other chunks should complete");
+        assertEqual(3, processor.getProcessedCount(), "Every other task should be processed");
+        assertEqual(4L, processor.getMetricsSnapshot().getFinishedTasks(), "The failed task should still be counted");
+        processor.shutdown();
+
+        System.out.println("  ✓ Passed\n");
+    }
+
+    // Three 300ms tasks on one worker: each waits for those ahead of it, so the third
+    // queues for about 600ms and finishes about 900ms after submission.
+    private void testMetricsAfterKnownWorkload() {
+        System.out.println("Test: Metrics After Known Workload");
+
+        TaskProcessor processor = new TaskProcessor(new ThreadSafeTaskRepository(), 1);
+        processor.processTasks(List.of(
+            task("METRIC-0", Priority.HIGH),
+            task("METRIC-1", Priority.HIGH),
+            task("METRIC-2", Priority.LOW))).join();
+        ProcessorMetricsSnapshot metrics = processor.getMetricsSnapshot();
+
+        assertEqual(3L, metrics.getQueuedTasks(), "Every submission should be counted");
+        assertEqual(3L, metrics.getFinishedTasks(), "Every task should finish");
+        assertEqual(0, metrics.getQueueDepth(), "Queue should be empty");
+        assertEqual(0, metrics.getInFlight(), "Nothing should be in flight");
+        assertEqual(2L, metrics.getServiceTime(Priority.HIGH).getCount(), "Two HIGH tasks should be recorded");
+        assertEqual(1L, metrics.getServiceTime(Priority.LOW).getCount(), "One LOW task should be recorded");
+        assertEqual(0L, metrics.getServiceTime(Priority.MEDIUM).getCount(), "No MEDIUM task should be recorded");
+        assertBetween(290, 450, metrics.getServiceTime(Priority.HIGH).getP50(), "Service time");
+        assertBetween(290, 450, metrics.getQueueWait(Priority.HIGH).getMax(), "Second task's queue wait");
+        assertBetween(570, 800, metrics.getQueueWait(Priority.LOW).getMax(), "Last task's queue wait");
+        assertBetween(870, 1_200, metrics.getEndToEnd(Priority.LOW).getMax(), "Last task's end-to-end latency");
+        processor.shutdown();
+
+        System.out.println("  ✓ Passed\n");
+    }
+
+    // One worker busy with the first task and two queue slots: the other three fail at once.
+    private void testBoundedQueueRejectsOverflow() {
+        System.out.println("Test: Bounded Queue Rejects Overflow");
+
+        TaskProcessor processor = TaskProcessor.bounded(new ThreadSafeTaskRepository(), 1, 2, AdmissionPolicy.REJECT);
+        List<Task> tasks = new ArrayList<>();
+        List<Future<Task>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tasks.add(task("REJ-" + i, Priority.MEDIUM));
+            futures.add(processor.processTaskAsync(tasks.get(i)));
+        }
+        for (int i = 3; i < 6; i++) {
+            assertEqual(true, failedWithRejection(futures.get(i)), "Task " + i + " should be rejected");
+            assertEqual(TaskStatus.PENDING, tasks.get(i).getStatus(), "Rejected task should not run");
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEqual(false, failedWithRejection(futures.get(i)), "Task " + i + " should be admitted");
+        }
+
+        ProcessorMetricsSnapshot metrics = processor.getMetricsSnapshot();
+        assertEqual(6L, metrics.getQueuedTasks(), "Every submission should be counted");
+        assertEqual(3L, metrics.getRejectedTasks(), "Three tasks should be rejected");
+        assertEqual(0, metrics.getQueueDepth(), "Nothing should be left queued");
+        processor.shutdown();
+
+        System.out.println("  ✓ Passed\n");
+    }
+
+    private void testShedsLowestPriorityFirst() {
+        System.out.println("Test: Sheds Lowest Priority First");
+
+        TaskProcessor processor = TaskProcessor.bounded(new ThreadSafeTaskRepository(), 1, 2,
+            AdmissionPolicy.SHED_LOWEST_PRIORITY);
+        Priority[] priorities = {Priority.LOW, Priority.LOW, Priority.MEDIUM, Priority.CRITICAL, Priority.LOW};
+        List<Future<Task>> futures = new ArrayList<>();
+        for (int i = 0; i < priorities.length; i++) {
+            futures.add(processor.processTaskAsync(task("SHED-" + i, priorities[i])));
+        }
+
+        // SHED-0 was running; CRITICAL pushed out the queued LOW, and the last LOW had
+        // nothing below it to displace, so it was turned away.
+        boolean[] failed = {false, true, false, false, true};
+        for (int i = 0; i < failed.length; i++) {
+            assertEqual(failed[i], failedWithRejection(futures.get(i)), "SHED-" + i + " admission state");
+        }
+        ProcessorMetricsSnapshot metrics = processor.getMetricsSnapshot();
+        assertEqual(1L, metrics.getShedTasks(), "Only the evicted task should be shed");
+        assertEqual(1L, metrics.getRejectedTasks(), "The incoming LOW should be rejected");
+        assertEqual(3, processor.getProcessedCount(), "Admitted tasks should all complete");
+        processor.shutdown();
+
+        System.out.println("  ✓ Passed\n");
+    }
+
+    // A full queue of HIGH tasks has nothing to give up for an incoming MEDIUM one.
+    private void testIncomingLowestPriorityIsRejected() {
+        System.out.println("Test: Incoming Lowest Priority Is Rejected");
+
+        TaskProcessor processor = TaskProcessor.bounded(new ThreadSafeTaskRepository(), 1, 2,
+            AdmissionPolicy.SHED_LOWEST_PRIORITY);
+        List<Future<Task>> admitted = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            admitted.add(processor.processTaskAsync(task("KEEP-" + i, Priority.HIGH)));
+        }
+        Task incoming = task("TURNED-AWAY", Priority.MEDIUM);
+        Future<Task> turnedAway = processor.processTaskAsync(incoming);
+
+        String reason = null;
+        try {
+            turnedAway.get();
+        } catch (ExecutionException e) {
+            reason = e.getCause().getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertEqual(true, reason != null && reason.contains("holds nothing below MEDIUM"),
+            "Incoming task should be rejected, not shed: " + reason);
+        for (Future<Task> future : admitted) {
+            assertEqual(false, failedWithRejection(future), "Queued HIGH tasks should be kept");
+        }
+        ProcessorMetricsSnapshot metrics = processor.getMetricsSnapshot();
+        assertEqual(0L, metrics.getShedTasks(), "Nothing queued was evicted");
+        assertEqual(1L, metrics.getRejectedTasks(), "The incoming task should count as rejected");
+        assertEqual(TaskStatus.PENDING, incoming.getStatus(), "Rejected task should not run");
+        processor.shutdown();
+
+        System.out.println("  ✓ Passed\n");
+    }
+
+    // The single worker is interrupted 50ms into a 300ms task and moves straight on.
+    private void testTaskBudgetFreesWorker() {
+        System.out.println("Test: Task Budget Frees Worker");
+
+        TaskProcessor processor = new TaskProcessor(new ThreadSafeTaskRepository(), 1);
+        Task slow = task("BUDGET-1", Priority.MEDIUM);
+        Task retried = task("BUDGET-2", Priority.MEDIUM);
+        Task next = task("BUDGET-3", Priority.MEDIUM);
+        long start = System.nanoTime();
+        Future<Task> first = processor.processTaskAsync(slow, ExecutionBudget.perTask(Duration.ofMillis(50)));
+        Future<Task> second = processor.processTaskAsync(retried,
+            ExecutionBudget.perTask(Duration.ofMillis(150)).onTimeout(TimeoutPolicy.REQUEUE));
+        Future<Task> third = processor.processTaskAsync(next);
+        awaitAll(List.of(first, second, third));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEqual(TaskStatus.CANCELLED, slow.getStatus(), "Timed-out task should be cancelled");
+        assertEqual(TaskStatus.PENDING, retried.getStatus(), "Requeued task should be pending again");
+        assertEqual(TaskStatus.COMPLETED, next.getStatus(), "Following task should run normally");
+        assertEqual(true, elapsedMillis < 700, "Worker should be freed early, took " + elapsedMillis + "ms");
+        assertEqual(2L, processor.getMetricsSnapshot().getTimedOutTasks(), "Both budgets should be counted");
+        processor.shutdown();
+
+        System.out.println("  ✓ Passed\n");
+    }
+
+    private void testBatchBudgetCoversQueuedTasks() {
+        System.out.println("Test: Batch Budget Covers Queued Tasks");
+
+        TaskProcessor processor = new TaskProcessor(new ThreadSafeTaskRepository(), 1);
+        List<Task> batch = List.of(task("BATCH-1", Priority.LOW), task("BATCH-2", Priority.LOW),
+            task("BATCH-3", Priority.LOW));
+        long start = System.nanoTime();
+        try {
+            processor.processTasks(batch, ExecutionBudget.perBatch(Duration.ofMillis(150))).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new AssertionError("Batch should finish normally: " + e);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        for (Task task : batch) {
+            assertEqual(TaskStatus.CANCELLED, task.getStatus(), task.getTaskId() + " should be cancelled");
+        }
+        assertEqual(true, elapsedMillis < 400, "Batch should stop at its limit, took " + elapsedMillis + "ms");
+        assertEqual(0, processor.getProcessedCount(), "Nothing should complete");
+        processor.shutdown();
+
+        System.out.println("  ✓ Passed\n");
+    }
+
+    private void awaitAll(List<Future<Task>> futures) {
+        for (Future<Task> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new AssertionError("Task should finish normally: " + e);
+            }
+        }
+    }
+
+    private void assertBetween(long minMillis, long maxMillis, long actualNanos, String message) {
+        long actualMillis = actualNanos / 1_000_000;
+        if (actualMillis < minMillis || actualMillis > maxMillis) {
+            throw new AssertionError(message + " - Expected " + minMillis + "-" + maxMillis + "ms, Got: "
+                + actualMillis + "ms");
+        }
+    }
+
+    private boolean failedWithRejection(Future<Task> future) {
+        try {
+            future.get();
+            return false;
+        } catch (ExecutionException e) {
+            return e.getCause() instanceof RejectedExecutionException;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for a task");
+        }
+    }
+
+    private Task task(String id, Priority priority) {
+        return task(id, priority, LocalDateTime.now().plusDays(1));
+    }
+
+    private Task task(String id, Priority priority, LocalDateTime deadline) {
+        return Task.builder()
+            .taskId(id)
+            .title("Processed " + id)
+            .priority(priority)
+            .deadline(deadline)
+            .build();
+    }
+
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+}
\ No newline at end of file
@@ -1,35 +1,115 @@
 package com.taskflow.concurrency;
 
 import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStateListener;
 import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.sorting.TaskComparator;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class ThreadSafeTaskRepository {
     
-    private final ConcurrentHashMap<String, Task> tasks;
+    private static final int INDEX_STRIPES = 64;
+    private static final int PARALLEL_BATCH = 8_192;
+    
+    private final TaskIdMap tasks;
+    private final Map<TaskStatus, TaskIdMap> statusIndex;
+    private final List<SortedTaskView> sortedViews;
+    private final SortedTaskView deadlineIndex;
+    private final Object[] indexStripes;
+    private final List<RepositoryListener> listeners;
+    private final TaskStateListener indexUpdater;
     private final ReadWriteLock lock;
+    private final LockingMode lockingMode;
     
     public ThreadSafeTaskRepository() {
-        this.tasks = new ConcurrentHashMap<>();
-        this.lock = new ReentrantReadWriteLock();
+        this(LockingMode.READ_WRITE_LOCK);
+    }
+    
+    public ThreadSafeTaskRepository(LockingMode lockingMode) {
+        this.tasks = new TaskIdMap();
+        this.statusIndex = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            statusIndex.put(status, new TaskIdMap());
+        }
+        this.deadlineIndex = new SortedTaskView(TaskComparator.byDeadline(), task -> task.getStatus().isActive());
+        this.sortedViews = new CopyOnWriteArrayList<>(List.of(deadlineIndex));
+        this.indexStripes = new Object[INDEX_STRIPES];
+        for (int i = 0; i < INDEX_STRIPES; i++) {
+            indexStripes[i] = new Object();
+        }
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.indexUpdater = new TaskStateListener() {
+            @Override
+            public void onStatusChanged(Task task, TaskStatus previous, TaskStatus current) {
+                try {
+                    reindex(task.getTaskId(), Change.STATUS, task, null);
+                } finally {
+                    afterChange();
+                }
+            }
+            
+            @Override
+            public void onAssigneeChanged(Task task, String previous, String current) {
+                try {
+                    reindex(task.getTaskId(), Change.ASSIGNEE, task, previous);
+                } finally {
+                    afterChange();
+                }
+            }
+        };
+        this.lockingMode = Objects.requireNonNull(lockingMode, "Locking mode cannot be null");
+        this.lock = lockingMode == LockingMode.LOCK_FREE
+            ? new NoOpReadWriteLock()
+            : new ReentrantReadWriteLock();
     }
     
     public void addTask(Task task) {
         lock.writeLock().lock();
         try {
-            if (tasks.containsKey(task.getTaskId())) {
+            if (tasks.putIfAbsent(task.getTaskId(), task) != null) {
                 throw new IllegalArgumentException("Task already exists: " + task.getTaskId());
             }
-            tasks.put(task.getTaskId(), task);
+            task.setStateListener(indexUpdater);
+            reindex(task.getTaskId(), Change.ADDED, task, null);
+        } finally {
+            lock.writeLock().unlock();
+            afterChange();
+        }
+    }
+    
+    // Adds every task in the batch, or none of them if any ID is already taken or appears
+    // twice. The batch is claimed and indexed under one hold of the write lock and of
+    // every index stripe instead of once per task, and large batches are processed in
+    // parallel. Readers that skip the lock (LOCK_FREE mode, stream()) may briefly see
+    // tasks of a batch that is then rolled back. Listeners see one onTaskAdded per task,
+    // in batch order; a listener that throws does not stop the others, and the first
+    // failure is rethrown once every listener has seen the whole batch, which stays added.
+    public void addTasks(Collection<Task> batch) {
+        List<Task> added = List.copyOf(batch);
+        if (added.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            claimIds(added);
+            withAllStripes(0, () -> indexAdded(added));
         } finally {
             lock.writeLock().unlock();
+            afterChange();
         }
     }
     
@@ -45,30 +125,128 @@ public class ThreadSafeTaskRepository {
     public List<Task> findAll() {
         lock.readLock().lock();
         try {
-            return new ArrayList<>(tasks.values());
+            return tasks.values();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public void forEach(Consumer<? super Task> action) {
+        lock.readLock().lock();
+        try {
+            tasks.forEach(action);
         } finally {
             lock.readLock().unlock();
         }
     }
     
+    // Visits only the tasks matching filter, without copying the repository. As with
+    // forEach, the action runs under the read lock and must not add or remove tasks.
+    public void forEach(Predicate<? super Task> filter, Consumer<? super Task> action) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        Objects.requireNonNull(action, "Action cannot be null");
+        forEach(task -> {
+            if (filter.test(task)) {
+                action.accept(task);
+            }
+        });
+    }
+    
+    // Streams the live map without copying it and without the repository lock, so it may
+    // run alongside writers and may call back into the repository. Iteration is weakly
+    // consistent: every task present for the whole traversal is seen exactly once, while
+    // tasks added or removed meanwhile, including those of a concurrent addTasks batch,
+    // may or may not be. Supports parallel().
+    public Stream<Task> stream() {
+        return tasks.stream();
+    }
+    
+    // Same guarantees as stream(), over the status index. A task whose status changes
+    // during the traversal may be missed or seen under both statuses.
+    public Stream<Task> streamByStatus(TaskStatus status) {
+        Objects.requireNonNull(status, "Status cannot be null");
+        return statusIndex.get(status).stream();
+    }
+    
     public List<Task> findByStatus(TaskStatus status) {
         lock.readLock().lock();
         try {
-            return tasks.values().stream()
-                .filter(task -> task.getStatus() == status)
-                .collect(Collectors.toList());
+            return statusIndex.get(status).values();
         } finally {
             lock.readLock().unlock();
         }
     }
     
+    public List<Task> findActiveDueBefore(LocalDateTime cutoff) {
+        Objects.requireNonNull(cutoff, "Cutoff cannot be null");
+        return deadlineIndex.headWhile(task -> task.getDeadline().isBefore(cutoff));
+    }
+    
+    public List<Task> findActiveDueBetween(LocalDateTime from, LocalDateTime to) {
+        Objects.requireNonNull(from, "From cannot be null");
+        Objects.requireNonNull(to, "To cannot be null");
+        // Views break deadline ties by ID, and no ID sorts before the empty one.
+        Task start = Task.builder()
+            .taskId("")
+            .title("")
+            .deadline(from)
+            .buildRestored();
+        return deadlineIndex.rangeWhile(start, task -> !task.getDeadline().isAfter(to));
+    }
+    
+    public SortedTaskView registerSortedView(Comparator<Task> ordering) {
+        return registerSortedView(ordering, task -> true);
+    }
+    
+    public SortedTaskView registerSortedView(Comparator<Task> ordering, Predicate<Task> filter) {
+        Objects.requireNonNull(ordering, "Ordering cannot be null");
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        
+        // Only the new view is filled, from one pass over the tasks and a single sorted
+        // rebuild. With every stripe held no reindex can run until the view is listed,
+        // so a task that changes meanwhile is brought up to date once they are released.
+        SortedTaskView view = new SortedTaskView(ordering, filter);
+        lock.writeLock().lock();
+        try {
+            withAllStripes(0, () -> {
+                view.addAll(tasks.values());
+                sortedViews.add(view);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return view;
+    }
+    
+    public void unregisterSortedView(SortedTaskView view) {
+        sortedViews.remove(view);
+    }
+    
+    public void addListener(RepositoryListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+    
+    public void removeListener(RepositoryListener listener) {
+        listeners.remove(listener);
+    }
+    
     public boolean removeTask(String taskId) {
         lock.writeLock().lock();
         try {
-            return tasks.remove(taskId) != null;
+            Task removed = tasks.remove(taskId);
+            if (removed == null) {
+                return false;
+            }
+            reindex(taskId, Change.REMOVED, removed, null);
         } finally {
             lock.writeLock().unlock();
+            afterChange();
         }
+        return true;
+    }
+    
+    public LockingMode getLockingMode() {
+        return lockingMode;
     }
     
     public int size() {
@@ -79,8 +257,147 @@ public class ThreadSafeTaskRepository {
         lock.writeLock().lock();
         try {
             tasks.clear();
+            statusIndex.values().forEach(TaskIdMap::clear);
+            sortedViews.forEach(SortedTaskView::clear);
+            deliver(RepositoryListener::onCleared);
         } finally {
             lock.writeLock().unlock();
+            afterChange();
+        }
+    }
+    
+    // Duplicate detection and insertion are the same putIfAbsent pass; on a clash the
+    // entries this batch did insert are taken out again before the write lock is released.
+    private void claimIds(List<Task> added) {
+        List<String> duplicates = stream(added)
+            .filter(task -> tasks.putIfAbsent(task.getTaskId(), task) != null)
+            .map(Task::getTaskId)
+            .toList();
+        if (!duplicates.isEmpty()) {
+            stream(added)
+                .filter(task -> tasks.get(task.getTaskId()) == task)
+                .forEach(task -> tasks.remove(task.getTaskId()));
+            throw new IllegalArgumentException("Task already exists: " + duplicates.get(0)
+                + (duplicates.size() > 1 ? " (and " + (duplicates.size() - 1) + " more)" : ""));
+        }
+    }
+    
+    // The state listener goes on before any status is read, so a transition racing with
+    // the batch reindexes its task once the stripes are released.
+    private void indexAdded(List<Task> added) {
+        stream(added).forEach(task -> task.setStateListener(indexUpdater));
+        stream(added).forEach(task -> statusIndex.get(task.getStatus()).put(task.getTaskId(), task));
+        for (SortedTaskView view : sortedViews) {
+            view.addAll(added);
+        }
+        RuntimeException failure = null;
+        for (Task task : added) {
+            failure = deliver(listener -> listener.onTaskAdded(task), failure);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+    
+    private void withAllStripes(int from, Runnable action) {
+        if (from == INDEX_STRIPES) {
+            action.run();
+            return;
+        }
+        synchronized (indexStripes[from]) {
+            withAllStripes(from + 1, action);
+        }
+    }
+    
+    private static Stream<Task> stream(List<Task> batch) {
+        return batch.size() >= PARALLEL_BATCH ? batch.parallelStream() : batch.stream();
+    }
+    
+    private void afterChange() {
+        deliver(RepositoryListener::afterChange);
+    }
+    
+    // A listener that throws does not stop the others; the first failure is rethrown
+    // once every listener has seen the event.
+    private void deliver(Consumer<RepositoryListener> event) {
+        RuntimeException failure = deliver(event, null);
+        if (failure != null) {
+            throw failure;
         }
     }
+    
+    private RuntimeException deliver(Consumer<RepositoryListener> event, RuntimeException failure) {
+        for (RepositoryListener listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else if (failure != e) {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        return failure;
+    }
+    
+    // Transitions call back without the repository lock. Every mutation of a task's map
+    // entry or status is followed by a reindex of its ID, and passes for the same ID are
+    // serialized, so the last pass always sees the final state. Listener events are
+    // raised from the same pass, which keeps them ordered per task and lets a racing
+    // transition that is indexed early be folded into the add event.
+    private void reindex(String taskId, Change change, Task subject, String previousAssignee) {
+        synchronized (indexStripes[Math.floorMod(taskId.hashCode(), INDEX_STRIPES)]) {
+            Task current = tasks.get(taskId);
+            TaskStatus status = current != null ? current.getStatus() : null;
+            TaskStatus indexed = null;
+            for (Map.Entry<TaskStatus, TaskIdMap> entry : statusIndex.entrySet()) {
+                Task previous = entry.getKey() == status
+                    ? entry.getValue().put(taskId, current)
+                    : entry.getValue().remove(taskId);
+                if (previous != null && previous == subject) {
+                    indexed = entry.getKey();
+                }
+            }
+            for (SortedTaskView view : sortedViews) {
+                view.update(taskId, current);
+            }
+            if (!listeners.isEmpty()) {
+                publish(change, subject, current, indexed, status, previousAssignee);
+            }
+        }
+    }
+    
+    private void publish(Change change, Task subject, Task current, TaskStatus indexed,
+                         TaskStatus status, String previousAssignee) {
+        switch (change) {
+            case ADDED:
+                if (current == subject) {
+                    deliver(listener -> listener.onTaskAdded(subject));
+                }
+                break;
+            case REMOVED:
+                if (indexed != null) {
+                    deliver(listener -> listener.onTaskRemoved(subject));
+                }
+                break;
+            case STATUS:
+                if (current == subject && indexed != null && indexed != status) {
+                    deliver(listener -> listener.onStatusChanged(subject, indexed, status));
+                }
+                break;
+            case ASSIGNEE:
+                if (current == subject && indexed != null) {
+                    String assignee = subject.getAssignedTo();
+                    deliver(listener -> listener.onAssigneeChanged(subject, previousAssignee, assignee));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private enum Change {
+        ADDED, REMOVED, STATUS, ASSIGNEE
+    }
 }
\ No newline at end of file
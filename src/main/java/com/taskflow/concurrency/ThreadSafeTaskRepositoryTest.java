@@ -1,14 +1,20 @@
 package com.taskflow.concurrency;
 
+import com.taskflow.core.domain.Priority;
 import com.taskflow.core.domain.Task;
 import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.sorting.TaskComparator;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 public class ThreadSafeTaskRepositoryTest {
     
@@ -22,6 +28,13 @@ public class ThreadSafeTaskRepositoryTest {
         
         testConcurrentAdd();
         testFindOperations();
+        testStatusIndexFollowsTransitions();
+        testLockFreeDuplicateAdd();
+        testSortedViewFollowsMutations();
+        testDeadlineRangeQuery();
+        testEncodedAndFallbackIds();
+        testBulkAddIsAllOrNothing();
+        testStreamSeesStableTasksOnce();
         
         System.out.println("\n✓ All Repository tests passed!");
     }
@@ -83,6 +96,292 @@ public class ThreadSafeTaskRepositoryTest {
         System.out.println("  ✓ Passed\n");
     }
     
+    private void testStatusIndexFollowsTransitions() {
+        System.out.println("Test: Status Index Follows Transitions");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        
+        Task task = Task.builder()
+            .taskId("TEST-2")
+            .title("Indexed Task")
+            .deadline(LocalDateTime.now().plusDays(1))
+            .build();
+        
+        repo.addTask(task);
+        task.updateStatus(TaskStatus.IN_PROGRESS);
+        
+        assertEqual(0, repo.findByStatus(TaskStatus.PENDING).size(), "Should have no pending tasks");
+        assertEqual(1, repo.findByStatus(TaskStatus.IN_PROGRESS).size(), "Should have 1 in-progress task");
+        
+        repo.removeTask("TEST-2");
+        task.updateStatus(TaskStatus.COMPLETED);
+        
+        assertEqual(0, repo.findByStatus(TaskStatus.IN_PROGRESS).size(), "Removed task should leave the index");
+        assertEqual(0, repo.findByStatus(TaskStatus.COMPLETED).size(), "Removed task should not be re-indexed");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testLockFreeDuplicateAdd() {
+        System.out.println("Test: Lock-Free Duplicate Add");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository(LockingMode.LOCK_FREE);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+        AtomicInteger accepted = new AtomicInteger();
+        
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                try {
+                    repo.addTask(Task.builder()
+                        .taskId("DUPLICATE")
+                        .title("Duplicate")
+                        .deadline(LocalDateTime.now().plusDays(1))
+                        .build());
+                    accepted.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    // expected for every thread but one
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+            assertEqual(1, accepted.get(), "Exactly one add should win");
+            assertEqual(1, repo.size(), "Should have 1 task");
+            assertEqual(1, repo.findByStatus(TaskStatus.PENDING).size(), "Winner should be indexed once");
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdown();
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testSortedViewFollowsMutations() {
+        System.out.println("Test: Sorted View Follows Mutations");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            repo.addTask(Task.builder()
+                .taskId("VIEW-" + i)
+                .title("View " + i)
+                .deadline(base.plusHours(3 - i))
+                .build());
+        }
+        
+        SortedTaskView active = repo.registerSortedView(TaskComparator.byDeadline(),
+            task -> task.getStatus().isActive());
+        assertEqual(3, active.size(), "View should be populated on registration");
+        assertTrue(active.head(1).get(0).getTaskId().equals("VIEW-2"), "Earliest deadline should come first");
+        
+        repo.findById("VIEW-2").get().updateStatus(TaskStatus.COMPLETED);
+        repo.removeTask("VIEW-1");
+        repo.addTask(Task.builder()
+            .taskId("VIEW-3")
+            .title("View 3")
+            .deadline(base.plusMinutes(30))
+            .build());
+        
+        List<Task> ordered = active.toList();
+        assertEqual(2, ordered.size(), "Completed and removed tasks should leave the view");
+        assertTrue(ordered.get(0).getTaskId().equals("VIEW-3"), "New task should be ordered first");
+        assertTrue(ordered.get(1).getTaskId().equals("VIEW-0"), "Remaining task should follow");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testDeadlineRangeQuery() {
+        System.out.println("Test: Deadline Range Query");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        LocalDateTime now = LocalDateTime.now();
+        int[] hoursAhead = {1, 2, 5, 30};
+        for (int hours : hoursAhead) {
+            repo.addTask(Task.builder()
+                .taskId("DUE-" + hours)
+                .title("Due in " + hours + "h")
+                .deadline(now.plusHours(hours))
+                .build());
+        }
+        repo.findById("DUE-2").get().updateStatus(TaskStatus.COMPLETED);
+        
+        List<Task> dueSoon = repo.findActiveDueBetween(now, now.plusHours(6));
+        assertEqual(2, dueSoon.size(), "Should find active tasks due within 6 hours");
+        assertTrue(dueSoon.get(0).getTaskId().equals("DUE-1"), "Earliest deadline should come first");
+        List<Task> later = repo.findActiveDueBetween(now.plusHours(3), now.plusHours(30));
+        assertEqual(2, later.size(), "Tasks due before the range should be skipped");
+        assertTrue(later.get(0).getTaskId().equals("DUE-5"), "Range should start at the first deadline in it");
+        assertEqual(1, repo.findActiveDueBetween(now.plusHours(5), now.plusHours(5)).size(),
+            "Both ends of the range should be inclusive");
+        assertEqual(0, repo.findActiveDueBefore(now).size(), "No task should be overdue yet");
+        assertEqual(3, repo.findActiveDueBefore(now.plusDays(2)).size(), "Completed task should be skipped");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testEncodedAndFallbackIds() {
+        System.out.println("Test: Encoded And Fallback IDs");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        LocalDateTime deadline = LocalDateTime.now().plusDays(1);
+        int count = 5_000;
+        for (int i = 0; i < count; i++) {
+            String taskId = i % 10 == 0 ? "LONG-IDENTIFIER-" + i : String.format("%08x", i);
+            repo.addTask(Task.builder()
+                .taskId(taskId)
+                .title("Task " + i)
+                .deadline(deadline)
+                .build());
+        }
+        for (int i = 0; i < count; i += 3) {
+            assertTrue(repo.removeTask(i % 10 == 0 ? "LONG-IDENTIFIER-" + i : String.format("%08x", i)),
+                "Every added task should be removable");
+        }
+        
+        int expected = count - (count + 2) / 3;
+        assertEqual(expected, repo.size(), "Size should count both kinds of ID");
+        assertEqual(expected, repo.findAll().size(), "findAll should return both kinds of ID");
+        assertEqual(expected, repo.findByStatus(TaskStatus.PENDING).size(), "Status index should match");
+        for (int i = 0; i < count; i++) {
+            String taskId = i % 10 == 0 ? "LONG-IDENTIFIER-" + i : String.format("%08x", i);
+            assertTrue(repo.findById(taskId).isPresent() == (i % 3 != 0),
+                "Lookups should survive removals of neighbouring entries: " + taskId);
+        }
+        assertTrue(repo.findById("é").isEmpty(), "Unknown non-ASCII ID should not be found");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testBulkAddIsAllOrNothing() {
+        System.out.println("Test: Bulk Add Is All Or Nothing");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        SortedTaskView byPriority = repo.registerSortedView(TaskComparator.byPriorityThenDeadline());
+        AtomicInteger added = new AtomicInteger();
+        repo.addListener(new RepositoryListener() {
+            @Override
+            public void onTaskAdded(Task task) {
+                added.incrementAndGet();
+            }
+        });
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        repo.addTask(Task.builder().taskId("BULK-0").title("Existing").deadline(base).build());
+        
+        int count = 20_000;
+        List<Task> batch = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            batch.add(Task.builder()
+                .taskId("BULK-" + i)
+                .title("Bulk " + i)
+                .priority(Priority.values()[i % Priority.values().length])
+                .deadline(base.plusMinutes((i * 7919L) % 10_000))
+                .build());
+        }
+        
+        List<Task> clashing = new ArrayList<>(batch);
+        clashing.add(Task.builder().taskId("BULK-0").title("Clash").deadline(base).build());
+        assertThrows(() -> repo.addTasks(clashing), "A batch reusing an existing ID should be rejected");
+        List<Task> repeated = new ArrayList<>(batch.subList(0, 10));
+        repeated.add(Task.builder().taskId("BULK-5").title("Repeat").deadline(base).build());
+        assertThrows(() -> repo.addTasks(repeated), "A batch repeating an ID should be rejected");
+        assertEqual(1, repo.size(), "Rejected batches should leave nothing behind");
+        assertTrue(repo.findById("BULK-1").isEmpty(), "Rejected tasks should not be findable");
+        assertEqual(1, byPriority.size(), "Rejected tasks should not reach the views");
+        
+        repo.addTasks(batch);
+        assertEqual(count + 1, repo.size(), "Every task in the batch should be added");
+        assertEqual(count + 1, added.get(), "Listeners should see one add per task");
+        assertEqual(count + 1, repo.findByStatus(TaskStatus.PENDING).size(), "Status index should include the batch");
+        List<Task> expected = new ArrayList<>(repo.findAll());
+        expected.sort(TaskComparator.byPriorityThenDeadline().thenComparing(Task::getTaskId));
+        assertTrue(expected.equals(byPriority.toList()), "Sorted view should match a full sort");
+        
+        repo.findById("BULK-42").get().updateStatus(TaskStatus.COMPLETED);
+        assertEqual(1, repo.findByStatus(TaskStatus.COMPLETED).size(), "Bulk-added tasks should follow transitions");
+        
+        ThreadSafeTaskRepository guarded = new ThreadSafeTaskRepository();
+        AtomicInteger seen = new AtomicInteger();
+        guarded.addListener(new RepositoryListener() {
+            @Override
+            public void onTaskAdded(Task task) {
+                if (task.getTaskId().equals("BULK-3")) {
+                    throw new IllegalArgumentException("Listener failed");
+                }
+            }
+        });
+        guarded.addListener(new RepositoryListener() {
+            @Override
+            public void onTaskAdded(Task task) {
+                seen.incrementAndGet();
+            }
+        });
+        assertThrows(() -> guarded.addTasks(batch.subList(0, 10)), "A listener failure should be rethrown");
+        assertEqual(10, seen.get(), "Other listeners should still see the whole batch");
+        assertEqual(10, guarded.size(), "The batch should stay added");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testStreamSeesStableTasksOnce() {
+        System.out.println("Test: Stream Sees Stable Tasks Once");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        LocalDateTime deadline = LocalDateTime.now().plusDays(1);
+        int stable = 10_000;
+        for (int i = 0; i < stable; i++) {
+            repo.addTask(Task.builder()
+                .taskId(i % 10 == 0 ? "STABLE-LONG-" + i : "S" + i)
+                .title("Stable " + i)
+                .priority(i % 2 == 0 ? Priority.HIGH : Priority.LOW)
+                .deadline(deadline)
+                .build());
+        }
+        
+        Thread churn = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                String taskId = "C" + i;
+                repo.addTask(Task.builder().taskId(taskId).title("Churn").deadline(deadline).build());
+                repo.removeTask(taskId);
+            }
+        });
+        churn.start();
+        
+        try {
+            while (churn.isAlive()) {
+                Map<String, Long> seen = repo.stream()
+                    .filter(task -> task.getTitle().startsWith("Stable"))
+                    .collect(Collectors.groupingBy(Task::getTaskId, Collectors.counting()));
+                assertEqual(stable, seen.size(), "Every stable task should be streamed");
+                assertTrue(seen.values().stream().allMatch(count -> count == 1), "No task should be streamed twice");
+            }
+            churn.join();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        
+        assertEqual(stable, (int) repo.stream().parallel().count(), "Parallel stream should see every task");
+        assertEqual(stable, (int) repo.streamByStatus(TaskStatus.PENDING).count(), "Status stream should match");
+        AtomicInteger high = new AtomicInteger();
+        repo.forEach(task -> task.getPriority() == Priority.HIGH, task -> high.incrementAndGet());
+        assertEqual(stable / 2, high.get(), "Filtered forEach should visit only matching tasks");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void assertThrows(Runnable action, String message) {
+        try {
+            action.run();
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError(message);
+    }
+    
     private void assertEqual(int expected, int actual, String message) {
         if (expected != actual) {
             throw new AssertionError(message);
@@ -0,0 +1,16 @@
+package com.taskflow.concurrency;
+
+public enum TimeoutPolicy {
+    CANCEL("Move the task to CANCELLED"),
+    REQUEUE("Move the task back to PENDING so a later run can retry it");
+    
+    private final String description;
+    
+    TimeoutPolicy(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
\ No newline at end of file
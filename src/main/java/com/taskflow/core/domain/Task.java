@@ -3,16 +3,20 @@ package com.taskflow.core.domain;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 public class Task {
+    private static final AtomicReferenceFieldUpdater<Task, State> STATE =
+        AtomicReferenceFieldUpdater.newUpdater(Task.class, State.class, "state");
+    
     private final String taskId;
     private final String title;
     private final String description;
     private final Priority priority;
     private final LocalDateTime deadline;
     private final LocalDateTime createdAt;
-    private TaskStatus status;
-    private String assignedTo;
+    private volatile State state;
+    private volatile TaskStateListener stateListener;
     
     private Task(Builder builder) {
         this.taskId = builder.taskId;
@@ -21,30 +25,49 @@ public class Task {
         this.priority = builder.priority;
         this.deadline = builder.deadline;
         this.createdAt = builder.createdAt;
-        this.status = builder.status;
-        this.assignedTo = builder.assignedTo;
+        this.state = new State(builder.status, builder.assignedTo);
     }
     
     public static Builder builder() {
         return new Builder();
     }
     
-    public synchronized void updateStatus(TaskStatus newStatus) {
-        if (this.status == TaskStatus.CANCELLED) {
-            throw new IllegalStateException("Cannot update cancelled task");
+    public void updateStatus(TaskStatus newStatus) {
+        State previous;
+        do {
+            previous = state;
+            if (previous.status == TaskStatus.CANCELLED) {
+                throw new IllegalStateException("Cannot update cancelled task");
+            }
+        } while (!STATE.compareAndSet(this, previous, new State(newStatus, previous.assignedTo)));
+        
+        TaskStateListener listener = stateListener;
+        if (listener != null) {
+            listener.onStatusChanged(this, previous.status, newStatus);
         }
-        this.status = newStatus;
     }
     
-    public synchronized void assignTo(String user) {
-        if (this.status == TaskStatus.COMPLETED || this.status == TaskStatus.CANCELLED) {
-            throw new IllegalStateException("Cannot reassign completed or cancelled task");
+    public void setStateListener(TaskStateListener listener) {
+        this.stateListener = listener;
+    }
+    
+    public void assignTo(String user) {
+        State previous;
+        do {
+            previous = state;
+            if (previous.status == TaskStatus.COMPLETED || previous.status == TaskStatus.CANCELLED) {
+                throw new IllegalStateException("Cannot reassign completed or cancelled task");
+            }
+        } while (!STATE.compareAndSet(this, previous, new State(previous.status, user)));
+        
+        TaskStateListener listener = stateListener;
+        if (listener != null) {
+            listener.onAssigneeChanged(this, previous.assignedTo, user);
         }
-        this.assignedTo = user;
     }
     
     public boolean isOverdue() {
-        return LocalDateTime.now().isAfter(deadline) && status.isActive();
+        return LocalDateTime.now().isAfter(deadline) && state.status.isActive();
     }
     
     public String getTaskId() {
@@ -71,12 +94,12 @@ public class Task {
         return createdAt;
     }
     
-    public synchronized TaskStatus getStatus() {
-        return status;
+    public TaskStatus getStatus() {
+        return state.status;
     }
     
-    public synchronized String getAssignedTo() {
-        return assignedTo;
+    public String getAssignedTo() {
+        return state.assignedTo;
     }
     
     @Override
@@ -95,7 +118,19 @@ public class Task {
     @Override
     public String toString() {
         return String.format("Task[id=%s, title=%s, priority=%s, status=%s]",
-            taskId, title, priority, status);
+            taskId, title, priority, state.status);
+    }
+    
+    // Status and assignee are swapped together so each guard checks the same snapshot
+    // the transition replaces.
+    private static final class State {
+        private final TaskStatus status;
+        private final String assignedTo;
+        
+        private State(TaskStatus status, String assignedTo) {
+            this.status = status;
+            this.assignedTo = assignedTo;
+        }
     }
     
     public static class Builder {
@@ -109,7 +144,6 @@ public class Task {
         private String assignedTo;
         
         private Builder() {
-            this.taskId = UUID.randomUUID().toString().substring(0, 8);
             this.createdAt = LocalDateTime.now();
             this.status = TaskStatus.PENDING;
             this.priority = Priority.MEDIUM;
@@ -150,6 +184,11 @@ public class Task {
             return this;
         }
         
+        public Builder createdAt(LocalDateTime createdAt) {
+            this.createdAt = Objects.requireNonNull(createdAt, "Creation date cannot be null");
+            return this;
+        }
+        
         public Task build() {
             Objects.requireNonNull(title, "Title is required");
             Objects.requireNonNull(deadline, "Deadline is required");
@@ -158,7 +197,24 @@ public class Task {
                 throw new IllegalArgumentException("Deadline cannot be in the past");
             }
             
-            return new Task(this);
+            return new Task(withGeneratedId());
+        }
+        
+        // For tasks loaded back from storage, whose deadlines may legitimately have passed.
+        public Task buildRestored() {
+            Objects.requireNonNull(title, "Title is required");
+            Objects.requireNonNull(deadline, "Deadline is required");
+            
+            return new Task(withGeneratedId());
+        }
+        
+        // Generated only when no ID was given: UUID.randomUUID() draws on SecureRandom,
+        // which dominates the cost of building tasks in bulk.
+        private Builder withGeneratedId() {
+            if (taskId == null) {
+                taskId = UUID.randomUUID().toString().substring(0, 8);
+            }
+            return this;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.taskflow.core.domain;
+
+@FunctionalInterface
+public interface TaskStateListener {
+    
+    void onStatusChanged(Task task, TaskStatus previous, TaskStatus current);
+    
+    default void onAssigneeChanged(Task task, String previous, String current) {
+    }
+}
\ No newline at end of file
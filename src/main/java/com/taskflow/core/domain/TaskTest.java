@@ -15,6 +15,7 @@ public class TaskTest {
         testTaskCreation();
         testStatusUpdate();
         testOverdueDetection();
+        testTransitionGuards();
         
         System.out.println("\n✓ All Task tests passed!");
     }
@@ -66,6 +67,41 @@ public class TaskTest {
         System.out.println("  ✓ Passed\n");
     }
     
+    private void testTransitionGuards() {
+        System.out.println("Test: Transition Guards");
+        
+        Task completed = Task.builder()
+            .title("Completed")
+            .deadline(LocalDateTime.now().plusDays(1))
+            .build();
+        completed.assignTo("Alice");
+        completed.updateStatus(TaskStatus.COMPLETED);
+        assertEqual("Alice", completed.getAssignedTo(), "Status change should keep the assignee");
+        assertThrows(() -> completed.assignTo("Bob"), "Completed task cannot be reassigned");
+        completed.updateStatus(TaskStatus.IN_PROGRESS);
+        assertEqual(TaskStatus.IN_PROGRESS, completed.getStatus(), "Completed task can still change status");
+        
+        Task cancelled = Task.builder()
+            .title("Cancelled")
+            .deadline(LocalDateTime.now().plusDays(1))
+            .build();
+        cancelled.updateStatus(TaskStatus.CANCELLED);
+        assertThrows(() -> cancelled.updateStatus(TaskStatus.PENDING), "Cancelled task cannot change status");
+        assertThrows(() -> cancelled.assignTo("Bob"), "Cancelled task cannot be reassigned");
+        assertEqual(TaskStatus.CANCELLED, cancelled.getStatus(), "Rejected updates should leave the task cancelled");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void assertThrows(Runnable action, String message) {
+        try {
+            action.run();
+        } catch (IllegalStateException e) {
+            return;
+        }
+        throw new AssertionError(message);
+    }
+    
     private void assertEqual(Object expected, Object actual, String message) {
         if (!expected.equals(actual)) {
             throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
@@ -0,0 +1,73 @@
+package com.taskflow.core.service;
+
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+// Position after the last task of a page. It keeps a detached copy of only the fields
+// the ordering compares (priority, deadline, ID), so it neither pins the task nor
+// depends on it still existing, and round-trips through an opaque token for API clients.
+public final class PageCursor {
+    
+    private static final char SEPARATOR = '|';
+    
+    private final TaskOrder order;
+    private final Task position;
+    
+    PageCursor(TaskOrder order, Task last) {
+        this(order, last.getPriority(), last.getDeadline(), last.getTaskId());
+    }
+    
+    private PageCursor(TaskOrder order, Priority priority, LocalDateTime deadline, String taskId) {
+        this.order = order;
+        this.position = Task.builder()
+            .taskId(taskId)
+            .title("cursor")
+            .priority(priority)
+            .deadline(deadline)
+            .buildRestored();
+    }
+    
+    public static PageCursor fromToken(String token) {
+        Objects.requireNonNull(token, "Token cannot be null");
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                .split("\\" + SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token, e);
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+        try {
+            return new PageCursor(TaskOrder.valueOf(parts[0]), Priority.valueOf(parts[1]),
+                LocalDateTime.parse(parts[2]), parts[3]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token, e);
+        }
+    }
+    
+    public String toToken() {
+        String raw = order.name() + SEPARATOR + position.getPriority().name() + SEPARATOR
+            + position.getDeadline() + SEPARATOR + position.getTaskId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public TaskOrder getOrder() {
+        return order;
+    }
+    
+    Task getPosition() {
+        return position;
+    }
+    
+    @Override
+    public String toString() {
+        return "PageCursor{" + order + " after " + position.getTaskId() + "}";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.taskflow.core.service;
+
+public enum TaskOrder {
+    PRIORITY("Highest priority first"),
+    DEADLINE("Earliest deadline first"),
+    PRIORITY_THEN_DEADLINE("Highest priority, then earliest deadline");
+    
+    private final String description;
+    
+    TaskOrder(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
\ No newline at end of file
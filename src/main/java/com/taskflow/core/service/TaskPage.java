@@ -0,0 +1,31 @@
+package com.taskflow.core.service;
+
+import com.taskflow.core.domain.Task;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public final class TaskPage {
+    
+    private final List<Task> tasks;
+    private final PageCursor next;
+    
+    TaskPage(List<Task> tasks, PageCursor next) {
+        this.tasks = Collections.unmodifiableList(tasks);
+        this.next = next;
+    }
+    
+    public List<Task> getTasks() {
+        return tasks;
+    }
+    
+    // Empty on the last page.
+    public Optional<PageCursor> getNextCursor() {
+        return Optional.ofNullable(next);
+    }
+    
+    public boolean hasNext() {
+        return next != null;
+    }
+}
\ No newline at end of file
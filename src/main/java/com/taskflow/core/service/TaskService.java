@@ -1,14 +1,19 @@
 package com.taskflow.core.service;
 
+import com.taskflow.concurrency.SortedTaskView;
 import com.taskflow.concurrency.ThreadSafeTaskRepository;
 import com.taskflow.concurrency.TaskProcessor;
 import com.taskflow.core.domain.Priority;
 import com.taskflow.core.domain.Task;
 import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.metrics.ProcessorMetricsSnapshot;
 import com.taskflow.sorting.TaskComparator;
-import com.taskflow.sorting.TaskSorter;
+import com.taskflow.sorting.TopKSelector;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -18,13 +23,21 @@ import java.util.stream.Collectors;
 public class TaskService {
     
     private final ThreadSafeTaskRepository repository;
-    private final TaskSorter sorter;
     private final TaskProcessor processor;
+    private final SortedTaskView byPriority;
+    private final SortedTaskView byDeadline;
+    private final SortedTaskView byPriorityThenDeadline;
     
     public TaskService(ThreadSafeTaskRepository repository, int processorThreads) {
+        this(repository, new TaskProcessor(Objects.requireNonNull(repository), processorThreads));
+    }
+    
+    public TaskService(ThreadSafeTaskRepository repository, TaskProcessor processor) {
         this.repository = Objects.requireNonNull(repository);
-        this.sorter = new TaskSorter();
-        this.processor = new TaskProcessor(repository, processorThreads);
+        this.processor = Objects.requireNonNull(processor);
+        this.byPriority = repository.registerSortedView(TaskComparator.byPriority());
+        this.byDeadline = repository.registerSortedView(TaskComparator.byDeadline());
+        this.byPriorityThenDeadline = repository.registerSortedView(TaskComparator.byPriorityThenDeadline());
     }
     
     public void createTask(Task task) {
@@ -32,6 +45,12 @@ public class TaskService {
         repository.addTask(task);
     }
     
+    // All or nothing: a duplicate ID anywhere in the batch leaves the repository unchanged.
+    public void createTasks(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        repository.addTasks(tasks);
+    }
+    
     public Optional<Task> getTask(String taskId) {
         Objects.requireNonNull(taskId, "Task ID cannot be null");
         return repository.findById(taskId);
@@ -47,28 +66,54 @@ public class TaskService {
     }
     
     public List<Task> getTasksSortedByPriority() {
-        List<Task> tasks = repository.findAll();
-        return sorter.sort(tasks, TaskComparator.byPriority());
+        return byPriority.toList();
     }
     
     public List<Task> getTasksSortedByDeadline() {
-        List<Task> tasks = repository.findAll();
-        return sorter.sort(tasks, TaskComparator.byDeadline());
+        return byDeadline.toList();
     }
     
     public List<Task> getTasksSortedByPriorityAndDeadline() {
-        List<Task> tasks = repository.findAll();
-        return sorter.sort(tasks, TaskComparator.byPriorityThenDeadline());
+        return byPriorityThenDeadline.toList();
+    }
+    
+    // Keyset pagination: each page seeks past the cursor in the sorted view instead of
+    // skipping an offset, so page N costs the same as page 1 and holds only limit tasks.
+    // Pages reflect concurrent changes; a task is never returned twice in one walk.
+    public TaskPage page(TaskOrder orderBy, PageCursor after, int limit) {
+        Objects.requireNonNull(orderBy, "Order cannot be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        if (after != null && after.getOrder() != orderBy) {
+            throw new IllegalArgumentException("Cursor is for " + after.getOrder() + " order, not " + orderBy);
+        }
+        List<Task> fetched = viewFor(orderBy).pageAfter(after == null ? null : after.getPosition(), limit + 1);
+        if (fetched.size() <= limit) {
+            return new TaskPage(fetched, null);
+        }
+        List<Task> tasks = fetched.subList(0, limit);
+        return new TaskPage(tasks, new PageCursor(orderBy, tasks.get(limit - 1)));
+    }
+    
+    public List<Task> topK(Comparator<Task> comparator, int k) {
+        TopKSelector selector = new TopKSelector(comparator, k);
+        repository.stream().forEach(selector);
+        return selector.getResult();
     }
     
     public List<Task> getOverdueTasks() {
-        return repository.findAll().stream()
-            .filter(Task::isOverdue)
-            .collect(Collectors.toList());
+        return repository.findActiveDueBefore(LocalDateTime.now());
+    }
+    
+    public List<Task> getTasksDueWithin(Duration window) {
+        Objects.requireNonNull(window, "Window cannot be null");
+        LocalDateTime now = LocalDateTime.now();
+        return repository.findActiveDueBetween(now, now.plus(window));
     }
     
     public List<Task> getHighPriorityTasks() {
-        return repository.findAll().stream()
+        return repository.stream()
             .filter(task -> task.getPriority() == Priority.HIGH || 
                            task.getPriority() == Priority.CRITICAL)
             .collect(Collectors.toList());
@@ -79,6 +124,11 @@ public class TaskService {
         return processor.processTasks(pendingTasks);
     }
     
+    public CompletableFuture<Void> processAllPendingTasksInChunks() {
+        List<Task> pendingTasks = repository.findByStatus(TaskStatus.PENDING);
+        return processor.processTasksInChunks(pendingTasks);
+    }
+    
     public void updateTaskStatus(String taskId, TaskStatus newStatus) {
         Task task = repository.findById(taskId)
             .orElseThrow(() -> new IllegalArgumentException("Task not found: " + taskId));
@@ -103,7 +153,25 @@ public class TaskService {
         return processor.getProcessedCount();
     }
     
+    public ProcessorMetricsSnapshot getProcessingMetrics() {
+        return processor.getMetricsSnapshot();
+    }
+    
     public void shutdown() {
+        repository.unregisterSortedView(byPriority);
+        repository.unregisterSortedView(byDeadline);
+        repository.unregisterSortedView(byPriorityThenDeadline);
         processor.shutdown();
     }
+    
+    private SortedTaskView viewFor(TaskOrder order) {
+        switch (order) {
+            case PRIORITY:
+                return byPriority;
+            case DEADLINE:
+                return byDeadline;
+            default:
+                return byPriorityThenDeadline;
+        }
+    }
 }
\ No newline at end of file
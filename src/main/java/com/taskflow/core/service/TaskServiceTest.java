@@ -0,0 +1,113 @@
+package com.taskflow.core.service;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskServiceTest {
+    
+    public static void main(String[] args) {
+        TaskServiceTest test = new TaskServiceTest();
+        test.runAllTests();
+    }
+    
+    public void runAllTests() {
+        System.out.println("Running TaskService Tests...\n");
+        
+        testPagesCoverViewInOrder();
+        testCursorSurvivesDeletionAndToken();
+        
+        System.out.println("\n✓ All TaskService tests passed!");
+    }
+    
+    private void testPagesCoverViewInOrder() {
+        System.out.println("Test: Pages Cover View In Order");
+        
+        TaskService service = serviceWith(23);
+        try {
+            for (TaskOrder order : TaskOrder.values()) {
+                List<Task> walked = new ArrayList<>();
+                PageCursor cursor = null;
+                int pages = 0;
+                do {
+                    TaskPage page = service.page(order, cursor, 5);
+                    walked.addAll(page.getTasks());
+                    cursor = page.getNextCursor().orElse(null);
+                    pages++;
+                } while (cursor != null);
+                
+                assertEqual(5, pages, order + " should take five pages of five");
+                assertEqual(sorted(service, order), walked, order + " pages should match the full sorted list");
+            }
+        } finally {
+            service.shutdown();
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testCursorSurvivesDeletionAndToken() {
+        System.out.println("Test: Cursor Survives Deletion And Token");
+        
+        TaskService service = serviceWith(10);
+        try {
+            TaskPage first = service.page(TaskOrder.DEADLINE, null, 4);
+            PageCursor cursor = first.getNextCursor().orElseThrow();
+            service.deleteTask(first.getTasks().get(3).getTaskId());
+            
+            PageCursor decoded = PageCursor.fromToken(cursor.toToken());
+            List<Task> expected = sorted(service, TaskOrder.DEADLINE).subList(3, 9);
+            assertEqual(expected, service.page(TaskOrder.DEADLINE, cursor, 6).getTasks(),
+                "Deleted cursor task should not shift the next page");
+            assertEqual(expected, service.page(TaskOrder.DEADLINE, decoded, 6).getTasks(),
+                "Decoded token should resume at the same place");
+            
+            boolean rejected = false;
+            try {
+                service.page(TaskOrder.PRIORITY, cursor, 6);
+            } catch (IllegalArgumentException e) {
+                rejected = true;
+            }
+            assertEqual(true, rejected, "Cursor from another order should be rejected");
+        } finally {
+            service.shutdown();
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private TaskService serviceWith(int count) {
+        TaskService service = new TaskService(new ThreadSafeTaskRepository(), 1);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            service.createTask(Task.builder()
+                .taskId("PAGE-" + i)
+                .title("Task " + i)
+                .priority(Priority.values()[i % Priority.values().length])
+                .deadline(now.plusHours(1 + (i * 7) % count))
+                .build());
+        }
+        return service;
+    }
+    
+    private List<Task> sorted(TaskService service, TaskOrder order) {
+        switch (order) {
+            case PRIORITY:
+                return service.getTasksSortedByPriority();
+            case DEADLINE:
+                return service.getTasksSortedByDeadline();
+            default:
+                return service.getTasksSortedByPriorityAndDeadline();
+        }
+    }
+    
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+}
\ No newline at end of file
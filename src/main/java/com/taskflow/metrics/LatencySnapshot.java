@@ -0,0 +1,62 @@
+package com.taskflow.metrics;
+
+// Point-in-time summary of a LatencyHistogram, in nanoseconds.
+public final class LatencySnapshot {
+    
+    private final long count;
+    private final double mean;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long max;
+    
+    private LatencySnapshot(long count, double mean, long p50, long p99, long p999, long max) {
+        this.count = count;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+    
+    // Recording continues while this reads, so the fields may be a few samples apart.
+    public static LatencySnapshot of(LatencyHistogram histogram) {
+        return new LatencySnapshot(
+            histogram.getCount(),
+            histogram.getMean(),
+            histogram.getValueAtPercentile(50.0),
+            histogram.getValueAtPercentile(99.0),
+            histogram.getValueAtPercentile(99.9),
+            histogram.getMax());
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public double getMean() {
+        return mean;
+    }
+    
+    public long getP50() {
+        return p50;
+    }
+    
+    public long getP99() {
+        return p99;
+    }
+    
+    public long getP999() {
+        return p999;
+    }
+    
+    public long getMax() {
+        return max;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("count=%d, p50=%.2fms, p99=%.2fms, p999=%.2fms, max=%.2fms",
+            count, p50 / 1e6, p99 / 1e6, p999 / 1e6, max / 1e6);
+    }
+}
\ No newline at end of file
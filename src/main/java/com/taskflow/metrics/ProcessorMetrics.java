@@ -0,0 +1,120 @@
+package com.taskflow.metrics;
+
+import com.taskflow.core.domain.Priority;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-priority latency histograms and gauges for a task processor. Recording only
+// touches atomics, so it is lock-free and does not allocate on the processing path.
+// A task is queued from submission until a worker starts it, then in flight until it
+// finishes; end-to-end latency spans both. Under bounded admission a queued task may
+// instead be rejected or shed, and then leaves the queue without starting.
+public class ProcessorMetrics {
+    
+    private final Map<Priority, LatencyHistogram> queueWait;
+    private final Map<Priority, LatencyHistogram> serviceTime;
+    private final Map<Priority, LatencyHistogram> endToEnd;
+    private final AtomicInteger queueDepth;
+    private final AtomicInteger inFlight;
+    private final AtomicLong finished;
+    private final AtomicLong queued;
+    private final AtomicLong rejected;
+    private final AtomicLong shed;
+    private final AtomicLong timedOut;
+    private final long createdAt;
+    
+    public ProcessorMetrics() {
+        this.queueWait = histograms();
+        this.serviceTime = histograms();
+        this.endToEnd = histograms();
+        this.queueDepth = new AtomicInteger();
+        this.inFlight = new AtomicInteger();
+        this.finished = new AtomicLong();
+        this.queued = new AtomicLong();
+        this.rejected = new AtomicLong();
+        this.shed = new AtomicLong();
+        this.timedOut = new AtomicLong();
+        this.createdAt = System.nanoTime();
+    }
+    
+    public void tasksQueued(int count) {
+        queueDepth.addAndGet(count);
+        queued.addAndGet(count);
+    }
+    
+    public void tasksRejected(int count) {
+        queueDepth.addAndGet(-count);
+        rejected.addAndGet(count);
+    }
+    
+    public void tasksShed(int count) {
+        queueDepth.addAndGet(-count);
+        shed.addAndGet(count);
+    }
+    
+    // Counted on top of taskFinished, for runs stopped by their execution budget.
+    public void taskTimedOut() {
+        timedOut.incrementAndGet();
+    }
+    
+    // Returns the start time to pass back to taskFinished.
+    public long taskStarted(Priority priority, long queuedAt) {
+        long now = System.nanoTime();
+        queueDepth.decrementAndGet();
+        inFlight.incrementAndGet();
+        queueWait.get(priority).record(now - queuedAt);
+        return now;
+    }
+    
+    public void taskFinished(Priority priority, long queuedAt, long startedAt) {
+        long now = System.nanoTime();
+        inFlight.decrementAndGet();
+        finished.incrementAndGet();
+        serviceTime.get(priority).record(now - startedAt);
+        endToEnd.get(priority).record(now - queuedAt);
+    }
+    
+    public LatencyHistogram getQueueWaitHistogram(Priority priority) {
+        return queueWait.get(priority);
+    }
+    
+    public LatencyHistogram getServiceTimeHistogram(Priority priority) {
+        return serviceTime.get(priority);
+    }
+    
+    public LatencyHistogram getEndToEndHistogram(Priority priority) {
+        return endToEnd.get(priority);
+    }
+    
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+    
+    public ProcessorMetricsSnapshot snapshot() {
+        return new ProcessorMetricsSnapshot(
+            summarize(queueWait), summarize(serviceTime), summarize(endToEnd),
+            queueDepth.get(), inFlight.get(), finished.get(), queued.get(), rejected.get(), shed.get(),
+            timedOut.get(), System.nanoTime() - createdAt);
+    }
+    
+    private static Map<Priority, LatencyHistogram> histograms() {
+        Map<Priority, LatencyHistogram> histograms = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            histograms.put(priority, new LatencyHistogram());
+        }
+        return histograms;
+    }
+    
+    private static Map<Priority, LatencySnapshot> summarize(Map<Priority, LatencyHistogram> histograms) {
+        Map<Priority, LatencySnapshot> summaries = new EnumMap<>(Priority.class);
+        histograms.forEach((priority, histogram) -> summaries.put(priority, LatencySnapshot.of(histogram)));
+        return summaries;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.taskflow.metrics;
+
+import com.taskflow.core.domain.Priority;
+
+import java.util.Collections;
+import java.util.Map;
+
+public final class ProcessorMetricsSnapshot {
+    
+    private final Map<Priority, LatencySnapshot> queueWait;
+    private final Map<Priority, LatencySnapshot> serviceTime;
+    private final Map<Priority, LatencySnapshot> endToEnd;
+    private final int queueDepth;
+    private final int inFlight;
+    private final long finishedTasks;
+    private final long queuedTasks;
+    private final long rejectedTasks;
+    private final long shedTasks;
+    private final long timedOutTasks;
+    private final long elapsedNanos;
+    
+    ProcessorMetricsSnapshot(Map<Priority, LatencySnapshot> queueWait, Map<Priority, LatencySnapshot> serviceTime,
+                             Map<Priority, LatencySnapshot> endToEnd, int queueDepth, int inFlight,
+                             long finishedTasks, long queuedTasks, long rejectedTasks, long shedTasks,
+                             long timedOutTasks, long elapsedNanos) {
+        this.queueWait = Collections.unmodifiableMap(queueWait);
+        this.serviceTime = Collections.unmodifiableMap(serviceTime);
+        this.endToEnd = Collections.unmodifiableMap(endToEnd);
+        this.queueDepth = queueDepth;
+        this.inFlight = inFlight;
+        this.finishedTasks = finishedTasks;
+        this.queuedTasks = queuedTasks;
+        this.rejectedTasks = rejectedTasks;
+        this.shedTasks = shedTasks;
+        this.timedOutTasks = timedOutTasks;
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    public LatencySnapshot getQueueWait(Priority priority) {
+        return queueWait.get(priority);
+    }
+    
+    public LatencySnapshot getServiceTime(Priority priority) {
+        return serviceTime.get(priority);
+    }
+    
+    public LatencySnapshot getEndToEnd(Priority priority) {
+        return endToEnd.get(priority);
+    }
+    
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+    
+    public int getInFlight() {
+        return inFlight;
+    }
+    
+    // Tasks that left processing, whether they completed or were cancelled.
+    public long getFinishedTasks() {
+        return finishedTasks;
+    }
+    
+    // Every task ever submitted, including those later rejected or shed.
+    public long getQueuedTasks() {
+        return queuedTasks;
+    }
+    
+    public long getRejectedTasks() {
+        return rejectedTasks;
+    }
+    
+    // Queued tasks dropped to make room for higher-priority ones.
+    public long getShedTasks() {
+        return shedTasks;
+    }
+    
+    // Finished tasks that were stopped by their execution budget.
+    public long getTimedOutTasks() {
+        return timedOutTasks;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    // Average since the processor was created.
+    public double getThroughputPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : finishedTasks * 1_000_000_000.0 / elapsedNanos;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.taskflow.persistence;
+
+public enum DurabilityMode {
+    ASYNC("Return immediately, fsync in the background at most every 100ms"),
+    GROUP_COMMIT("Wait for fsync, shared by every writer in the same batch"),
+    SYNC("Wait for an fsync of each record on its own");
+    
+    private final String description;
+    
+    DurabilityMode(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public boolean waitsForSync() {
+        return this != ASYNC;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.taskflow.persistence;
+
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Binary field encoding shared by the write-ahead log and snapshots. Enums are stored
+// as ordinals and times as UTC epoch seconds plus nanos, so any change to the enum
+// order or field layout needs a new format version.
+final class TaskCodec {
+    
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    
+    private TaskCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+    
+    static void writeTask(DataOutput out, Task task) throws IOException {
+        writeString(out, task.getTaskId());
+        writeString(out, task.getTitle());
+        writeString(out, task.getDescription());
+        out.writeByte(task.getPriority().ordinal());
+        writeTime(out, task.getDeadline());
+        writeTime(out, task.getCreatedAt());
+        out.writeByte(task.getStatus().ordinal());
+        writeString(out, task.getAssignedTo());
+    }
+    
+    static TaskRecord readTask(DataInput in) throws IOException {
+        TaskRecord record = new TaskRecord();
+        record.taskId = readString(in);
+        record.title = readString(in);
+        record.description = readString(in);
+        record.priority = readPriority(in);
+        record.deadline = readTime(in);
+        record.createdAt = readTime(in);
+        record.status = readStatus(in);
+        record.assignedTo = readString(in);
+        return record;
+    }
+    
+    // Same layout as readTask(DataInput), read straight out of a (usually mapped) buffer.
+    static TaskRecord readTask(ByteBuffer in) throws IOException {
+        try {
+            TaskRecord record = new TaskRecord();
+            record.taskId = readString(in);
+            record.title = readString(in);
+            record.description = readString(in);
+            record.priority = PRIORITIES[Byte.toUnsignedInt(in.get())];
+            record.deadline = readTime(in);
+            record.createdAt = readTime(in);
+            record.status = STATUSES[Byte.toUnsignedInt(in.get())];
+            record.assignedTo = readString(in);
+            return record;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Malformed task record", e);
+        }
+    }
+    
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    static void writeTime(DataOutput out, LocalDateTime time) throws IOException {
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+    
+    static LocalDateTime readTime(DataInput in) throws IOException {
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+    
+    private static LocalDateTime readTime(ByteBuffer in) {
+        long epochSecond = in.getLong();
+        int nano = in.getInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+    
+    static Priority readPriority(DataInput in) throws IOException {
+        return PRIORITIES[in.readUnsignedByte()];
+    }
+    
+    static TaskStatus readStatus(DataInput in) throws IOException {
+        return STATUSES[in.readUnsignedByte()];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.taskflow.persistence;
+
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.time.LocalDateTime;
+
+final class TaskRecord {
+    
+    String taskId;
+    String title;
+    String description;
+    Priority priority;
+    LocalDateTime deadline;
+    LocalDateTime createdAt;
+    TaskStatus status;
+    String assignedTo;
+    
+    Task toTask() {
+        return Task.builder()
+            .taskId(taskId)
+            .title(title)
+            .description(description)
+            .priority(priority)
+            .deadline(deadline)
+            .createdAt(createdAt)
+            .status(status)
+            .assignedTo(assignedTo)
+            .buildRestored();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+package com.taskflow.persistence;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+
+// File layout: an 8-byte header (magic, version), then independent segments of
+// TaskCodec-encoded tasks, then a directory with one [long offset][int length]
+// [int task count][int CRC32] entry per segment, then a 24-byte footer of
+// [long checkpoint sequence][long directory offset][int segment count][int magic].
+// Each segment decodes on its own, which is what lets load() map and decode them in
+// parallel. The checkpoint is the last write-ahead log frame the snapshot covers, or 0
+// for a snapshot taken without a log.
+public final class TaskSnapshot {
+    
+    public static final int DEFAULT_SEGMENT_TASKS = 65_536;
+    
+    private static final int MAGIC = 0x5446534E;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 8;
+    private static final int DIRECTORY_ENTRY_BYTES = 20;
+    private static final int FOOTER_BYTES = 24;
+    
+    private TaskSnapshot() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+    
+    public static int write(ThreadSafeTaskRepository repository, Path path) throws IOException {
+        return write(repository, path, DEFAULT_SEGMENT_TASKS);
+    }
+    
+    public static int write(ThreadSafeTaskRepository repository, Path path, int segmentTasks) throws IOException {
+        return write(repository, path, segmentTasks, 0);
+    }
+    
+    // Snapshots a repository that log is attached to, then drops the log frames the
+    // snapshot covers. Recover the pair with WriteAheadLog.attach(repository, logPath,
+    // path, mode), which replays only the frames written after the snapshot began.
+    public static int checkpoint(ThreadSafeTaskRepository repository, WriteAheadLog log, Path path) throws IOException {
+        Objects.requireNonNull(log, "Write-ahead log cannot be null");
+        WriteAheadLog.Checkpoint checkpoint = log.checkpoint();
+        int written = write(repository, path, DEFAULT_SEGMENT_TASKS, checkpoint.sequence);
+        log.discardThrough(checkpoint);
+        return written;
+    }
+    
+    public static int load(Path path, ThreadSafeTaskRepository repository) throws IOException {
+        return load(path, repository, ForkJoinPool.commonPool());
+    }
+    
+    // Loads into a repository that has no listeners yet; a write-ahead log attached
+    // beforehand would log every restored task again. Segments decode in parallel and
+    // the tasks go in as one bulk add, so a damaged snapshot or a clashing ID leaves the
+    // repository untouched.
+    public static int load(Path path, ThreadSafeTaskRepository repository, ForkJoinPool pool) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(repository, "Repository cannot be null");
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        
+        List<TaskRecord> records = new ArrayList<>();
+        read(path, pool, records);
+        List<Task> loaded = new ArrayList<>(records.size());
+        for (TaskRecord record : records) {
+            loaded.add(record.toTask());
+        }
+        repository.addTasks(loaded);
+        return loaded.size();
+    }
+    
+    // Adds the snapshot's tasks to state by ID and returns its checkpoint sequence.
+    static long read(Path path, Map<String, TaskRecord> state) throws IOException {
+        List<TaskRecord> records = new ArrayList<>();
+        long checkpoint = read(path, ForkJoinPool.commonPool(), records);
+        for (TaskRecord record : records) {
+            state.put(record.taskId, record);
+        }
+        return checkpoint;
+    }
+    
+    // Writes to a temporary file and renames it over path once it is synced, so a crash
+    // mid-write leaves the previous snapshot intact. Iterates the repository's lock-free
+    // stream, so writers are never held up; tasks that change while the snapshot is
+    // taken are captured in either state.
+    private static int write(ThreadSafeTaskRepository repository, Path path, int segmentTasks,
+                             long checkpoint) throws IOException {
+        Objects.requireNonNull(repository, "Repository cannot be null");
+        Objects.requireNonNull(path, "Path cannot be null");
+        if (segmentTasks <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive: " + segmentTasks);
+        }
+        
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SegmentWriter writer = new SegmentWriter(channel, segmentTasks);
+            writer.writeFully(ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip());
+            try {
+                repository.stream().forEach(task -> {
+                    try {
+                        writer.add(task);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish(checkpoint);
+            channel.force(true);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return writer.taskCount;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    // Decodes every segment into records, in file order, and returns the checkpoint.
+    private static long read(Path path, ForkJoinPool pool, List<TaskRecord> records) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Directory directory = readDirectory(channel, path);
+            List<ForkJoinTask<List<TaskRecord>>> decoders = new ArrayList<>(directory.segments.size());
+            for (Segment segment : directory.segments) {
+                decoders.add(pool.submit(() -> {
+                    try {
+                        return decode(channel, segment, path);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+            
+            IOException failure = null;
+            for (ForkJoinTask<List<TaskRecord>> decoder : decoders) {
+                try {
+                    records.addAll(decoder.join());
+                } catch (UncheckedIOException e) {
+                    failure = failure == null ? e.getCause() : failure;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return directory.checkpoint;
+        }
+    }
+    
+    private static Directory readDirectory(FileChannel channel, Path path) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_BYTES + FOOTER_BYTES) {
+            throw new IOException("Not a TaskFlow snapshot: " + path);
+        }
+        ByteBuffer header = readAt(channel, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a TaskFlow snapshot: " + path);
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + ": " + path);
+        }
+        
+        ByteBuffer footer = readAt(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+        long checkpoint = footer.getLong();
+        long directoryOffset = footer.getLong();
+        int segmentCount = footer.getInt();
+        if (footer.getInt() != MAGIC || checkpoint < 0 || segmentCount < 0 || directoryOffset < HEADER_BYTES
+                || directoryOffset + (long) segmentCount * DIRECTORY_ENTRY_BYTES != size - FOOTER_BYTES) {
+            throw new IOException("Incomplete or corrupt snapshot: " + path);
+        }
+        
+        ByteBuffer directory = readAt(channel, directoryOffset, segmentCount * DIRECTORY_ENTRY_BYTES);
+        List<Segment> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            Segment segment = new Segment(directory.getLong(), directory.getInt(), directory.getInt(), directory.getInt());
+            if (segment.offset < HEADER_BYTES || segment.length < 0 || segment.taskCount < 0
+                    || segment.offset + segment.length > directoryOffset) {
+                throw new IOException("Corrupt snapshot directory entry " + i + ": " + path);
+            }
+            segments.add(segment);
+        }
+        return new Directory(checkpoint, segments);
+    }
+    
+    private static List<TaskRecord> decode(FileChannel channel, Segment segment, Path path) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, segment.offset, segment.length);
+        CRC32 crc = new CRC32();
+        crc.update(buffer);
+        if ((int) crc.getValue() != segment.checksum) {
+            throw new IOException("Checksum mismatch in snapshot segment at offset " + segment.offset + ": " + path);
+        }
+        buffer.rewind();
+        
+        List<TaskRecord> decoded = new ArrayList<>(segment.taskCount);
+        for (int i = 0; i < segment.taskCount; i++) {
+            decoded.add(TaskCodec.readTask(buffer));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("Trailing bytes in snapshot segment at offset " + segment.offset + ": " + path);
+        }
+        return decoded;
+    }
+    
+    private static ByteBuffer readAt(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of snapshot");
+            }
+        }
+        return buffer.flip();
+    }
+    
+    private static final class Directory {
+        
+        final long checkpoint;
+        final List<Segment> segments;
+        
+        Directory(long checkpoint, List<Segment> segments) {
+            this.checkpoint = checkpoint;
+            this.segments = segments;
+        }
+    }
+    
+    private static final class Segment {
+        
+        final long offset;
+        final int length;
+        final int taskCount;
+        final int checksum;
+        
+        Segment(long offset, int length, int taskCount, int checksum) {
+            this.offset = offset;
+            this.length = length;
+            this.taskCount = taskCount;
+            this.checksum = checksum;
+        }
+    }
+    
+    private static final class SegmentWriter {
+        
+        private final FileChannel channel;
+        private final int segmentTasks;
+        private final ByteArrayOutputStream bytes;
+        private final DataOutputStream out;
+        private final ByteArrayOutputStream directoryBytes;
+        private final DataOutputStream directory;
+        private long position;
+        private int segmentCount;
+        private int pendingTasks;
+        private int taskCount;
+        
+        SegmentWriter(FileChannel channel, int segmentTasks) {
+            this.channel = channel;
+            this.segmentTasks = segmentTasks;
+            this.bytes = new ByteArrayOutputStream(1 << 20);
+            this.out = new DataOutputStream(bytes);
+            this.directoryBytes = new ByteArrayOutputStream();
+            this.directory = new DataOutputStream(directoryBytes);
+        }
+        
+        void add(Task task) throws IOException {
+            TaskCodec.writeTask(out, task);
+            taskCount++;
+            if (++pendingTasks == segmentTasks) {
+                flushSegment();
+            }
+        }
+        
+        void finish(long checkpoint) throws IOException {
+            if (pendingTasks > 0) {
+                flushSegment();
+            }
+            long directoryOffset = position;
+            writeFully(ByteBuffer.wrap(directoryBytes.toByteArray()));
+            writeFully(ByteBuffer.allocate(FOOTER_BYTES)
+                .putLong(checkpoint)
+                .putLong(directoryOffset)
+                .putInt(segmentCount)
+                .putInt(MAGIC)
+                .flip());
+        }
+        
+        void writeFully(ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer);
+            }
+        }
+        
+        private void flushSegment() throws IOException {
+            byte[] segment = bytes.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(segment);
+            directory.writeLong(position);
+            directory.writeInt(segment.length);
+            directory.writeInt(pendingTasks);
+            directory.writeInt((int) crc.getValue());
+            
+            writeFully(ByteBuffer.wrap(segment));
+            bytes.reset();
+            segmentCount++;
+            pendingTasks = 0;
+        }
+    }
+}
\ No newline at end of file
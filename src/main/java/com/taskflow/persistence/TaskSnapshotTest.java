@@ -0,0 +1,191 @@
+package com.taskflow.persistence;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+public class TaskSnapshotTest {
+    
+    public static void main(String[] args) {
+        TaskSnapshotTest test = new TaskSnapshotTest();
+        test.runAllTests();
+    }
+    
+    public void runAllTests() {
+        System.out.println("Running TaskSnapshot Tests...\n");
+        
+        testRoundTripAcrossSegments();
+        testCorruptSegmentIsRejected();
+        testCheckpointCompactsLogAndReplaysSuffix();
+        
+        System.out.println("\n✓ All TaskSnapshot tests passed!");
+    }
+    
+    private void testRoundTripAcrossSegments() {
+        System.out.println("Test: Round Trip Across Segments");
+        
+        Path file = tempFile();
+        try {
+            ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+            for (int i = 0; i < 25; i++) {
+                repo.addTask(Task.builder()
+                    .taskId("SNAP-" + i)
+                    .title("Task " + i)
+                    .description(i % 2 == 0 ? "Described" : null)
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .deadline(LocalDateTime.now().plusHours(i + 1))
+                    .build());
+            }
+            Task assigned = repo.findById("SNAP-7").orElseThrow();
+            assigned.assignTo("Bob");
+            assigned.updateStatus(TaskStatus.IN_PROGRESS);
+            
+            assertEqual(25, TaskSnapshot.write(repo, file, 4), "All tasks should be written");
+            
+            ThreadSafeTaskRepository restored = new ThreadSafeTaskRepository();
+            assertEqual(25, TaskSnapshot.load(file, restored), "All tasks should be loaded");
+            assertEqual(25, restored.size(), "Repository should hold every task");
+            
+            for (Task original : repo.findAll()) {
+                Task copy = restored.findById(original.getTaskId()).orElseThrow();
+                assertEqual(original.getTitle(), copy.getTitle(), "Title should survive");
+                assertEqual(String.valueOf(original.getDescription()), String.valueOf(copy.getDescription()),
+                    "Description should survive");
+                assertEqual(original.getPriority(), copy.getPriority(), "Priority should survive");
+                assertEqual(original.getDeadline(), copy.getDeadline(), "Deadline should survive");
+                assertEqual(original.getCreatedAt(), copy.getCreatedAt(), "Creation date should survive");
+                assertEqual(original.getStatus(), copy.getStatus(), "Status should survive");
+            }
+            assertEqual("Bob", restored.findById("SNAP-7").orElseThrow().getAssignedTo(), "Assignee should survive");
+            assertEqual(1, restored.findByStatus(TaskStatus.IN_PROGRESS).size(), "Status index should be rebuilt");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(file);
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testCorruptSegmentIsRejected() {
+        System.out.println("Test: Corrupt Segment Is Rejected");
+        
+        Path file = tempFile();
+        try {
+            ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+            repo.addTask(Task.builder()
+                .taskId("SNAP-X")
+                .title("Will be damaged")
+                .deadline(LocalDateTime.now().plusDays(1))
+                .build());
+            TaskSnapshot.write(repo, file);
+            
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[] {'#'}), 14);
+            }
+            
+            boolean rejected = false;
+            try {
+                TaskSnapshot.load(file, new ThreadSafeTaskRepository());
+            } catch (IOException e) {
+                rejected = true;
+            }
+            assertEqual(true, rejected, "Damaged segment should fail its checksum");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(file);
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testCheckpointCompactsLogAndReplaysSuffix() {
+        System.out.println("Test: Checkpoint Compacts Log And Replays Suffix");
+        
+        Path snapshot = tempFile();
+        Path logFile = tempFile();
+        try {
+            ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+            WriteAheadLog log = WriteAheadLog.attach(repo, logFile, DurabilityMode.GROUP_COMMIT);
+            for (int i = 0; i < 3; i++) {
+                repo.addTask(Task.builder()
+                    .taskId("CKPT-" + i)
+                    .title("Before checkpoint " + i)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .build());
+            }
+            long fullLog = Files.size(logFile);
+            
+            assertEqual(3, TaskSnapshot.checkpoint(repo, log, snapshot), "Checkpoint should snapshot every task");
+            assertEqual(true, Files.size(logFile) < fullLog, "Covered frames should be dropped from the log");
+            
+            repo.addTask(Task.builder()
+                .taskId("CKPT-3")
+                .title("After checkpoint")
+                .deadline(LocalDateTime.now().plusDays(1))
+                .build());
+            repo.findById("CKPT-0").orElseThrow().updateStatus(TaskStatus.COMPLETED);
+            repo.removeTask("CKPT-1");
+            log.close();
+            
+            boolean refused = false;
+            try {
+                WriteAheadLog.attach(new ThreadSafeTaskRepository(), logFile, DurabilityMode.GROUP_COMMIT);
+            } catch (IOException e) {
+                refused = true;
+            }
+            assertEqual(true, refused, "A compacted log should not be replayed without its snapshot");
+            
+            ThreadSafeTaskRepository restored = new ThreadSafeTaskRepository();
+            WriteAheadLog reopened = WriteAheadLog.attach(restored, logFile, snapshot, DurabilityMode.GROUP_COMMIT);
+            reopened.close();
+            assertEqual(3, restored.size(), "Snapshot plus log suffix should give the final task set");
+            assertEqual(TaskStatus.COMPLETED, restored.findById("CKPT-0").orElseThrow().getStatus(),
+                "Status change after the checkpoint should be replayed");
+            assertEqual(false, restored.findById("CKPT-1").isPresent(), "Removal after the checkpoint should be replayed");
+            assertEqual(true, restored.findById("CKPT-3").isPresent(), "Add after the checkpoint should be replayed");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(snapshot);
+            deleteQuietly(logFile);
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private Path tempFile() {
+        try {
+            Path file = Files.createTempFile("taskflow-snapshot", ".bin");
+            Files.delete(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + file + ": " + e.getMessage());
+        }
+    }
+    
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,593 @@
+package com.taskflow.persistence;
+
+import com.taskflow.concurrency.RepositoryListener;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+// File layout: a 16-byte header (magic, version, base sequence) followed by frames of
+// [int payload length][int CRC32 of payload][payload]. Frames are numbered from one past
+// the base sequence; a checkpoint drops the frames its snapshot already covers and
+// raises the base. A torn or corrupt frame at the tail is treated as the end of the log
+// and truncated on open.
+public class WriteAheadLog implements RepositoryListener, Closeable {
+    
+    private static final int MAGIC = 0x5446574C;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 16;
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final long ASYNC_SYNC_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final byte STATUS = 3;
+    private static final byte ASSIGNEE = 4;
+    private static final byte CLEAR = 5;
+    
+    private final Path path;
+    private final DurabilityMode durabilityMode;
+    // Owned by the flusher thread, which swaps it when compacting, and by close().
+    private FileChannel channel;
+    
+    private final ReentrantLock lock;
+    private final Condition pendingAvailable;
+    private final Condition syncCompleted;
+    private ArrayDeque<byte[]> pending;
+    private long appendedSequence;
+    private long durableSequence;
+    private long durableOffset;
+    private long baseSequence;
+    private long compactions;
+    private Checkpoint compactRequest;
+    private long syncCount;
+    private IOException failure;
+    private volatile boolean running;
+    
+    private final ThreadLocal<long[]> lastAppended;
+    private final Thread flusher;
+    
+    private WriteAheadLog(Path path, FileChannel channel, DurabilityMode durabilityMode, ScanResult contents) {
+        this.path = path;
+        this.channel = channel;
+        this.durabilityMode = durabilityMode;
+        this.lock = new ReentrantLock();
+        this.pendingAvailable = lock.newCondition();
+        this.syncCompleted = lock.newCondition();
+        this.pending = new ArrayDeque<>();
+        this.baseSequence = contents.baseSequence;
+        this.appendedSequence = contents.baseSequence + contents.frames;
+        this.durableSequence = appendedSequence;
+        this.durableOffset = contents.end;
+        this.running = true;
+        this.lastAppended = ThreadLocal.withInitial(() -> new long[1]);
+        this.flusher = new Thread(this::flushLoop, "taskflow-wal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+    
+    public static WriteAheadLog open(Path path, DurabilityMode durabilityMode) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(durabilityMode, "Durability mode cannot be null");
+        
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ScanResult contents;
+        if (channel.size() == 0) {
+            writeFully(channel, header(0));
+            channel.force(true);
+            contents = new ScanResult(0, 0, HEADER_BYTES);
+        } else {
+            contents = scan(path, null, 0);
+            if (contents.end < channel.size()) {
+                channel.truncate(contents.end);
+            }
+        }
+        channel.position(channel.size());
+        return new WriteAheadLog(path, channel, durabilityMode, contents);
+    }
+    
+    // Replays the log into an empty repository, then keeps logging its changes.
+    public static WriteAheadLog attach(ThreadSafeTaskRepository repository, Path path,
+                                       DurabilityMode durabilityMode) throws IOException {
+        WriteAheadLog log = open(path, durabilityMode);
+        log.recover(repository);
+        repository.addListener(log);
+        return log;
+    }
+    
+    // Loads the snapshot, if there is one, replays only the log frames after its
+    // checkpoint, then keeps logging the repository's changes.
+    public static WriteAheadLog attach(ThreadSafeTaskRepository repository, Path path, Path snapshot,
+                                       DurabilityMode durabilityMode) throws IOException {
+        WriteAheadLog log = open(path, durabilityMode);
+        log.recover(repository, snapshot);
+        repository.addListener(log);
+        return log;
+    }
+    
+    // Must run before this log is registered as a listener, or the replayed tasks would
+    // be logged a second time. Fails once a checkpoint has dropped the start of the log.
+    public int recover(ThreadSafeTaskRepository repository) throws IOException {
+        return restore(repository, new LinkedHashMap<>(), 0);
+    }
+    
+    // Tasks captured while they were changing may already be newer in the snapshot than
+    // at its checkpoint. Replaying a frame sets a task's fields rather than stepping its
+    // status, so applying those changes a second time is harmless.
+    public int recover(ThreadSafeTaskRepository repository, Path snapshot) throws IOException {
+        Objects.requireNonNull(snapshot, "Snapshot path cannot be null");
+        Map<String, TaskRecord> state = new LinkedHashMap<>();
+        long checkpoint = Files.exists(snapshot) ? TaskSnapshot.read(snapshot, state) : 0;
+        return restore(repository, state, checkpoint);
+    }
+    
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+    
+    public long getSyncCount() {
+        lock.lock();
+        try {
+            return syncCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void onTaskAdded(Task task) {
+        append(ADD, out -> TaskCodec.writeTask(out, task));
+    }
+    
+    @Override
+    public void onTaskRemoved(Task task) {
+        append(REMOVE, out -> TaskCodec.writeString(out, task.getTaskId()));
+    }
+    
+    @Override
+    public void onStatusChanged(Task task, TaskStatus previous, TaskStatus current) {
+        append(STATUS, out -> {
+            TaskCodec.writeString(out, task.getTaskId());
+            out.writeByte(current.ordinal());
+        });
+    }
+    
+    @Override
+    public void onAssigneeChanged(Task task, String previous, String current) {
+        append(ASSIGNEE, out -> {
+            TaskCodec.writeString(out, task.getTaskId());
+            TaskCodec.writeString(out, current);
+        });
+    }
+    
+    @Override
+    public void onCleared() {
+        append(CLEAR, out -> { });
+    }
+    
+    @Override
+    // A change the log could not accept is reported here rather than from the callback
+    // that recorded it, once the repository has finished applying it.
+    public void afterChange() {
+        long[] position = lastAppended.get();
+        long sequence = position[0];
+        position[0] = 0;
+        if (sequence < 0) {
+            throw new UncheckedIOException("Write-ahead log rejected a change", rejectionCause());
+        }
+        if (sequence > 0 && durabilityMode.waitsForSync()) {
+            awaitDurable(sequence);
+        }
+    }
+    
+    // Frames up to this point have reached the file, and the changes they record were
+    // made before it was taken.
+    Checkpoint checkpoint() {
+        lock.lock();
+        try {
+            return new Checkpoint(durableSequence, durableOffset, compactions);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Rewrites the log without the frames up to checkpoint, once a snapshot holding their
+    // changes is safely on disk. Runs on the flusher between batches, so appends carry on
+    // meanwhile. A checkpoint overtaken by a later compaction is ignored.
+    void discardThrough(Checkpoint checkpoint) throws IOException {
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Write-ahead log is closed");
+            }
+            if (checkpoint.compactions != compactions || checkpoint.sequence <= baseSequence) {
+                return;
+            }
+            compactRequest = checkpoint;
+            pendingAvailable.signal();
+            while (compactRequest == checkpoint && failure == null) {
+                syncCompleted.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw new IOException("Write-ahead log failed", failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            running = false;
+            pendingAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.force(true);
+        channel.close();
+    }
+    
+    private void append(byte type, RecordWriter body) {
+        byte[] frame = encode(type, body);
+        lock.lock();
+        try {
+            if (!running) {
+                lastAppended.get()[0] = -1;
+                return;
+            }
+            pending.add(frame);
+            lastAppended.get()[0] = ++appendedSequence;
+            pendingAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private IOException rejectionCause() {
+        lock.lock();
+        try {
+            return failure != null ? failure : new IOException("Write-ahead log is closed");
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableSequence < sequence && failure == null) {
+                syncCompleted.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Write-ahead log failed", failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void flushLoop() {
+        long lastSync = System.nanoTime();
+        boolean unsynced = false;
+        while (true) {
+            ArrayDeque<byte[]> batch;
+            long batchEnd;
+            Checkpoint compaction;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && compactRequest == null && running) {
+                    if (unsynced) {
+                        pendingAvailable.awaitNanos(ASYNC_SYNC_INTERVAL_NANOS);
+                        break;
+                    }
+                    pendingAvailable.awaitUninterruptibly();
+                }
+                if (pending.isEmpty() && compactRequest == null && !running) {
+                    return;
+                }
+                compaction = compactRequest;
+                if (durabilityMode == DurabilityMode.SYNC) {
+                    batch = new ArrayDeque<>(1);
+                    if (!pending.isEmpty()) {
+                        batch.add(pending.poll());
+                    }
+                    batchEnd = durableSequence + batch.size();
+                } else {
+                    batch = pending;
+                    pending = new ArrayDeque<>();
+                    batchEnd = appendedSequence;
+                }
+            } catch (InterruptedException e) {
+                failBatch(new InterruptedIOException("Write-ahead log flusher interrupted"));
+                return;
+            } finally {
+                lock.unlock();
+            }
+            
+            try {
+                write(batch);
+                boolean sync = durabilityMode.waitsForSync()
+                    || !running
+                    || System.nanoTime() - lastSync >= ASYNC_SYNC_INTERVAL_NANOS;
+                if (sync) {
+                    channel.force(false);
+                    lastSync = System.nanoTime();
+                }
+                unsynced = !sync;
+                completeBatch(batchEnd, sync);
+                if (compaction != null) {
+                    compact(compaction);
+                }
+            } catch (IOException e) {
+                failBatch(e);
+                return;
+            }
+        }
+    }
+    
+    private void write(ArrayDeque<byte[]> batch) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        int i = 0;
+        for (byte[] frame : batch) {
+            buffers[i++] = ByteBuffer.wrap(frame);
+        }
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
+    
+    // Copies the frames after the checkpoint into a new file headed by its sequence and
+    // renames that over the log, so a crash leaves either the old log or the new one.
+    private void compact(Checkpoint checkpoint) throws IOException {
+        long end = channel.position();
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        try {
+            try (FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(target, header(checkpoint.sequence));
+                long position = checkpoint.offset;
+                while (position < end) {
+                    position += channel.transferTo(position, end - position, target);
+                }
+                target.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        FileChannel compacted = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        compacted.position(compacted.size());
+        channel.close();
+        channel = compacted;
+        
+        lock.lock();
+        try {
+            baseSequence = checkpoint.sequence;
+            durableOffset -= checkpoint.offset - HEADER_BYTES;
+            compactions++;
+            compactRequest = null;
+            syncCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void completeBatch(long batchEnd, boolean synced) throws IOException {
+        long offset = channel.position();
+        lock.lock();
+        try {
+            durableSequence = batchEnd;
+            durableOffset = offset;
+            if (synced) {
+                syncCount++;
+            }
+            syncCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void failBatch(IOException e) {
+        lock.lock();
+        try {
+            failure = e;
+            running = false;
+            syncCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private static byte[] encode(byte type, RecordWriter body) {
+        try {
+            ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64);
+            DataOutputStream payload = new DataOutputStream(payloadBytes);
+            payload.writeByte(type);
+            body.write(payload);
+            byte[] content = payloadBytes.toByteArray();
+            
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            return ByteBuffer.allocate(FRAME_HEADER_BYTES + content.length)
+                .putInt(content.length)
+                .putInt((int) crc.getValue())
+                .put(content)
+                .array();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private int restore(ThreadSafeTaskRepository repository, Map<String, TaskRecord> state,
+                        long checkpoint) throws IOException {
+        scan(path, state, checkpoint);
+        List<Task> tasks = new ArrayList<>(state.size());
+        for (TaskRecord record : state.values()) {
+            tasks.add(record.toTask());
+        }
+        repository.addTasks(tasks);
+        return tasks.size();
+    }
+    
+    private static ByteBuffer header(long baseSequence) {
+        return ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putLong(baseSequence).flip();
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    // Walks every intact frame, applying those after the given sequence to state when
+    // one is given. Fails if state is given but the log's first frame comes later than
+    // that, since the changes in between are gone.
+    private static ScanResult scan(Path path, Map<String, TaskRecord> state, long after) throws IOException {
+        long size = Files.size(path);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (size < HEADER_BYTES || in.readInt() != MAGIC) {
+                throw new IOException("Not a TaskFlow write-ahead log: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported write-ahead log version " + version + ": " + path);
+            }
+            long base = in.readLong();
+            if (state != null && base > after) {
+                throw new IOException("Write-ahead log starts after sequence " + base
+                    + " but recovery needs it from " + after + ": " + path);
+            }
+            
+            long position = HEADER_BYTES;
+            long frames = 0;
+            CRC32 crc = new CRC32();
+            while (size - position >= FRAME_HEADER_BYTES) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length <= 0 || length > size - position - FRAME_HEADER_BYTES) {
+                    break;
+                }
+                byte[] content = new byte[length];
+                in.readFully(content);
+                crc.reset();
+                crc.update(content);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                frames++;
+                if (state != null && base + frames > after) {
+                    apply(content, state);
+                }
+                position += FRAME_HEADER_BYTES + length;
+            }
+            return new ScanResult(base, frames, position);
+        } catch (EOFException e) {
+            throw new IOException("Truncated write-ahead log header: " + path, e);
+        }
+    }
+    
+    private static void apply(byte[] content, Map<String, TaskRecord> state) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        byte type = in.readByte();
+        switch (type) {
+            case ADD: {
+                TaskRecord record = TaskCodec.readTask(in);
+                state.put(record.taskId, record);
+                break;
+            }
+            case REMOVE:
+                state.remove(TaskCodec.readString(in));
+                break;
+            case STATUS: {
+                TaskRecord record = state.get(TaskCodec.readString(in));
+                TaskStatus status = TaskCodec.readStatus(in);
+                if (record != null) {
+                    record.status = status;
+                }
+                break;
+            }
+            case ASSIGNEE: {
+                TaskRecord record = state.get(TaskCodec.readString(in));
+                String assignee = TaskCodec.readString(in);
+                if (record != null) {
+                    record.assignedTo = assignee;
+                }
+                break;
+            }
+            case CLEAR:
+                state.clear();
+                break;
+            default:
+                throw new IOException("Unknown write-ahead log record type: " + type);
+        }
+    }
+    
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+    
+    static final class Checkpoint {
+        
+        final long sequence;
+        final long offset;
+        final long compactions;
+        
+        Checkpoint(long sequence, long offset, long compactions) {
+            this.sequence = sequence;
+            this.offset = offset;
+            this.compactions = compactions;
+        }
+    }
+    
+    private static final class ScanResult {
+        
+        final long baseSequence;
+        final long frames;
+        final long end;
+        
+        ScanResult(long baseSequence, long frames, long end) {
+            this.baseSequence = baseSequence;
+            this.frames = frames;
+            this.end = end;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.taskflow.persistence;
+
+import com.taskflow.concurrency.RepositoryListener;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Priority;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WriteAheadLogTest {
+    
+    public static void main(String[] args) {
+        WriteAheadLogTest test = new WriteAheadLogTest();
+        test.runAllTests();
+    }
+    
+    public void runAllTests() {
+        System.out.println("Running WriteAheadLog Tests...\n");
+        
+        testReplayRestoresState();
+        testTornTailIsIgnored();
+        testClosedLogFailsAfterChange();
+        
+        System.out.println("\n✓ All WriteAheadLog tests passed!");
+    }
+    
+    private void testReplayRestoresState() {
+        System.out.println("Test: Replay Restores State");
+        
+        Path file = tempFile();
+        try {
+            ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+            WriteAheadLog log = WriteAheadLog.attach(repo, file, DurabilityMode.GROUP_COMMIT);
+            
+            Task kept = Task.builder()
+                .taskId("WAL-1")
+                .title("Kept")
+                .priority(Priority.HIGH)
+                .deadline(LocalDateTime.now().plusDays(1))
+                .build();
+            repo.addTask(kept);
+            repo.addTask(Task.builder()
+                .taskId("WAL-2")
+                .title("Removed")
+                .deadline(LocalDateTime.now().plusDays(1))
+                .build());
+            kept.assignTo("Alice");
+            kept.updateStatus(TaskStatus.COMPLETED);
+            repo.removeTask("WAL-2");
+            log.close();
+            
+            ThreadSafeTaskRepository restored = new ThreadSafeTaskRepository();
+            WriteAheadLog reopened = WriteAheadLog.attach(restored, file, DurabilityMode.GROUP_COMMIT);
+            reopened.close();
+            
+            assertEqual(1, restored.size(), "Only the kept task should be restored");
+            Task task = restored.findById("WAL-1").orElseThrow();
+            assertEqual(TaskStatus.COMPLETED, task.getStatus(), "Status should be replayed");
+            assertEqual("Alice", task.getAssignedTo(), "Assignee should be replayed");
+            assertEqual(Priority.HIGH, task.getPriority(), "Priority should be restored");
+            assertEqual(kept.getDeadline(), task.getDeadline(), "Deadline should be restored exactly");
+            assertEqual(kept.getCreatedAt(), task.getCreatedAt(), "Creation date should be restored exactly");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(file);
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testTornTailIsIgnored() {
+        System.out.println("Test: Torn Tail Is Ignored");
+        
+        Path file = tempFile();
+        try {
+            ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+            WriteAheadLog log = WriteAheadLog.attach(repo, file, DurabilityMode.SYNC);
+            repo.addTask(Task.builder()
+                .taskId("WAL-3")
+                .title("Durable")
+                .deadline(LocalDateTime.now().plusDays(1))
+                .build());
+            log.close();
+            
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 40, 1, 2, 3}));
+            }
+            
+            ThreadSafeTaskRepository restored = new ThreadSafeTaskRepository();
+            WriteAheadLog reopened = WriteAheadLog.attach(restored, file, DurabilityMode.SYNC);
+            restored.addTask(Task.builder()
+                .taskId("WAL-4")
+                .title("After recovery")
+                .deadline(LocalDateTime.now().plusDays(1))
+                .build());
+            reopened.close();
+            
+            ThreadSafeTaskRepository again = new ThreadSafeTaskRepository();
+            WriteAheadLog.attach(again, file, DurabilityMode.SYNC).close();
+            assertEqual(2, again.size(), "Torn frame should be truncated before new appends");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(file);
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testClosedLogFailsAfterChange() {
+        System.out.println("Test: Closed Log Fails After Change");
+        
+        Path file = tempFile();
+        try {
+            ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+            WriteAheadLog log = WriteAheadLog.attach(repo, file, DurabilityMode.ASYNC);
+            List<String> events = new ArrayList<>();
+            repo.addListener(new RepositoryListener() {
+                @Override
+                public void onTaskAdded(Task task) {
+                    events.add("added " + task.getTaskId());
+                }
+                
+                @Override
+                public void onStatusChanged(Task task, TaskStatus previous, TaskStatus current) {
+                    events.add(task.getTaskId() + " " + current);
+                }
+            });
+            log.close();
+            
+            Task task = Task.builder()
+                .taskId("WAL-5")
+                .title("Not logged")
+                .deadline(LocalDateTime.now().plusDays(1))
+                .build();
+            assertFailsUnchecked(() -> repo.addTask(task), "Adding to a closed log should fail");
+            assertEqual(1, repo.size(), "The add should still be applied");
+            assertFailsUnchecked(() -> task.updateStatus(TaskStatus.IN_PROGRESS),
+                "A transition on a closed log should fail");
+            assertEqual(1, repo.findByStatus(TaskStatus.IN_PROGRESS).size(),
+                "The transition should still be indexed");
+            assertEqual(List.of("added WAL-5", "WAL-5 " + TaskStatus.IN_PROGRESS), events,
+                "Listeners after the log should still see both changes");
+            
+            repo.removeListener(log);
+            repo.removeTask("WAL-5");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(file);
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void assertFailsUnchecked(Runnable action, String message) {
+        try {
+            action.run();
+        } catch (UncheckedIOException e) {
+            return;
+        }
+        throw new AssertionError(message);
+    }
+    
+    private Path tempFile() {
+        try {
+            Path file = Files.createTempFile("taskflow-wal", ".log");
+            Files.delete(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + file + ": " + e.getMessage());
+        }
+    }
+    
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.taskflow.pipeline;
+
+import com.taskflow.core.domain.Task;
+
+// The work one stage does for a task. Throwing fails the task: it is cancelled and its
+// future completes exceptionally. Handlers that block should respond to interrupts,
+// which is how a pipeline shutting down stops them.
+@FunctionalInterface
+public interface StageHandler {
+    
+    void handle(Task task) throws Exception;
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.taskflow.pipeline;
+
+import com.taskflow.metrics.LatencySnapshot;
+
+public final class StageSnapshot {
+    
+    private final String name;
+    private final int threads;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final int busyWorkers;
+    private final long completed;
+    private final long failed;
+    private final long elapsedNanos;
+    private final LatencySnapshot serviceTime;
+    
+    StageSnapshot(String name, int threads, int queueDepth, int queueCapacity, int busyWorkers,
+                  long completed, long failed, long elapsedNanos, LatencySnapshot serviceTime) {
+        this.name = name;
+        this.threads = threads;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.busyWorkers = busyWorkers;
+        this.completed = completed;
+        this.failed = failed;
+        this.elapsedNanos = elapsedNanos;
+        this.serviceTime = serviceTime;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+    
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+    
+    // Workers inside the handler or waiting to hand a task to the next stage.
+    public int getBusyWorkers() {
+        return busyWorkers;
+    }
+    
+    public long getCompleted() {
+        return completed;
+    }
+    
+    public long getFailed() {
+        return failed;
+    }
+    
+    // Average since the pipeline was built.
+    public double getThroughputPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : completed * 1_000_000_000.0 / elapsedNanos;
+    }
+    
+    // Time inside the handler, excluding the wait for room in the next stage.
+    public LatencySnapshot getServiceTime() {
+        return serviceTime;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s: %d threads, queue %d/%d, %d busy, %.1f tasks/s, service %s",
+            name, threads, queueDepth, queueCapacity, busyWorkers, getThroughputPerSecond(), serviceTime);
+    }
+}
\ No newline at end of file
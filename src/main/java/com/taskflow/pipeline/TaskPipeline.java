@@ -0,0 +1,302 @@
+package com.taskflow.pipeline;
+
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+import com.taskflow.metrics.LatencyHistogram;
+import com.taskflow.metrics.LatencySnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Staged event-driven pipeline: every stage has its own worker threads and a bounded
+// queue in front of them, so an I/O-bound stage can run many blocked threads while a
+// CPU-bound one runs about one per core. A worker hands a finished task to the next
+// stage's queue and waits while it is full, which pushes back stage by stage up to
+// submit(). A task is IN_PROGRESS from the moment the first stage picks it up and
+// COMPLETED after the last stage.
+public class TaskPipeline {
+    
+    private static final long SHUTDOWN_GRACE_NANOS = TimeUnit.SECONDS.toNanos(5);
+    
+    private final List<Stage> stages;
+    private final long createdAt;
+    private volatile boolean accepting;
+    
+    private TaskPipeline(List<Stage> stages) {
+        this.stages = stages;
+        this.createdAt = System.nanoTime();
+        this.accepting = true;
+        for (int i = 0; i < stages.size(); i++) {
+            stages.get(i).start(i == 0, i + 1 < stages.size() ? stages.get(i + 1) : null);
+        }
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    // Blocks while the first stage's queue is full. A submission that races shutdown()
+    // is either drained with the rest of the queue or taken back out and rejected here.
+    public CompletableFuture<Task> submit(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        if (!accepting) {
+            throw new RejectedExecutionException("Pipeline is shut down");
+        }
+        Item item = new Item(task);
+        Stage first = stages.get(0);
+        try {
+            first.enqueue(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            item.future.completeExceptionally(e);
+            return item.future;
+        }
+        if (!accepting && first.withdraw(item)) {
+            throw new RejectedExecutionException("Pipeline is shut down");
+        }
+        return item.future;
+    }
+    
+    public CompletableFuture<Void> submitAll(Collection<Task> tasks) {
+        List<CompletableFuture<Task>> futures = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            futures.add(submit(task));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+    
+    public List<StageSnapshot> getStageSnapshots() {
+        long elapsed = System.nanoTime() - createdAt;
+        List<StageSnapshot> snapshots = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            snapshots.add(stage.snapshot(elapsed));
+        }
+        return snapshots;
+    }
+    
+    // Lets queued work drain stage by stage, first to last, and stops each stage's
+    // workers once it is idle. After five seconds the remaining workers are interrupted
+    // and whatever is still queued is cancelled.
+    public void shutdown() {
+        accepting = false;
+        long deadline = System.nanoTime() + SHUTDOWN_GRACE_NANOS;
+        for (Stage stage : stages) {
+            while (!stage.isIdle() && System.nanoTime() < deadline) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            stage.stop();
+        }
+    }
+    
+    public static final class Builder {
+        
+        private final List<Stage> stages = new ArrayList<>();
+        
+        private Builder() {
+        }
+        
+        public Builder stage(String name, int threads, int queueCapacity, StageHandler handler) {
+            Objects.requireNonNull(name, "Stage name cannot be null");
+            Objects.requireNonNull(handler, "Handler cannot be null");
+            if (threads <= 0) {
+                throw new IllegalArgumentException("Stage threads must be positive: " + threads);
+            }
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+            }
+            stages.add(new Stage(name, threads, queueCapacity, handler));
+            return this;
+        }
+        
+        public TaskPipeline build() {
+            if (stages.isEmpty()) {
+                throw new IllegalStateException("A pipeline needs at least one stage");
+            }
+            return new TaskPipeline(List.copyOf(stages));
+        }
+    }
+    
+    private static final class Item {
+        private final Task task;
+        private final CompletableFuture<Task> future;
+        
+        Item(Task task) {
+            this.task = task;
+            this.future = new CompletableFuture<>();
+        }
+    }
+    
+    private static final class Stage {
+        
+        private final String name;
+        private final int threads;
+        private final int queueCapacity;
+        private final StageHandler handler;
+        private final BlockingQueue<Item> queue;
+        private final List<Thread> workers;
+        private final AtomicInteger busy;
+        private final AtomicInteger inStage;
+        private final AtomicLong completed;
+        private final AtomicLong failed;
+        private final LatencyHistogram serviceTime;
+        private boolean first;
+        private Stage next;
+        private volatile boolean stopping;
+        
+        Stage(String name, int threads, int queueCapacity, StageHandler handler) {
+            this.name = name;
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+            this.handler = handler;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.workers = new ArrayList<>(threads);
+            this.busy = new AtomicInteger();
+            this.inStage = new AtomicInteger();
+            this.completed = new AtomicLong();
+            this.failed = new AtomicLong();
+            this.serviceTime = new LatencyHistogram();
+        }
+        
+        void start(boolean first, Stage next) {
+            this.first = first;
+            this.next = next;
+            for (int i = 0; i < threads; i++) {
+                Thread worker = new Thread(this::workLoop, "taskflow-stage-" + name + "-" + i);
+                worker.setDaemon(true);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+        
+        // A task counts against a stage from before it is queued there until after it
+        // has been handed on, so an idle check never misses one moving between stages.
+        void enqueue(Item item) throws InterruptedException {
+            inStage.incrementAndGet();
+            try {
+                queue.put(item);
+            } catch (InterruptedException e) {
+                inStage.decrementAndGet();
+                throw e;
+            }
+        }
+        
+        // True if the item was still queued and has been taken back out.
+        boolean withdraw(Item item) {
+            if (!queue.remove(item)) {
+                return false;
+            }
+            inStage.decrementAndGet();
+            return true;
+        }
+        
+        // Only stop() ends a worker; an interrupt raised by a handler fails that task
+        // and the worker carries on.
+        private void workLoop() {
+            while (!stopping) {
+                Item item;
+                try {
+                    item = queue.take();
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                busy.incrementAndGet();
+                try {
+                    process(item);
+                } finally {
+                    busy.decrementAndGet();
+                    inStage.decrementAndGet();
+                }
+            }
+        }
+        
+        private void process(Item item) {
+            long start = System.nanoTime();
+            try {
+                if (first) {
+                    item.task.updateStatus(TaskStatus.IN_PROGRESS);
+                }
+                handler.handle(item.task);
+                if (next == null) {
+                    item.task.updateStatus(TaskStatus.COMPLETED);
+                }
+                serviceTime.record(System.nanoTime() - start);
+                completed.incrementAndGet();
+            } catch (InterruptedException e) {
+                failed.incrementAndGet();
+                fail(item, stopping ? new CancellationException("Stage " + name + " stopped") : e);
+                return;
+            } catch (Throwable e) {
+                // Errors included: the item fails, and the worker goes on to the next one.
+                failed.incrementAndGet();
+                fail(item, e);
+                return;
+            }
+            
+            if (next == null) {
+                item.future.complete(item.task);
+                return;
+            }
+            while (true) {
+                try {
+                    next.enqueue(item);
+                    return;
+                } catch (InterruptedException e) {
+                    if (stopping) {
+                        fail(item, new CancellationException("Stage " + name + " stopped"));
+                        return;
+                    }
+                }
+            }
+        }
+        
+        // The task may have been cancelled by someone else in the meantime, or its
+        // listeners may throw; the future still fails either way.
+        private static void fail(Item item, Throwable error) {
+            try {
+                if (item.task.getStatus().isActive()) {
+                    item.task.updateStatus(TaskStatus.CANCELLED);
+                }
+            } catch (RuntimeException e) {
+                error.addSuppressed(e);
+            }
+            item.future.completeExceptionally(error);
+        }
+        
+        boolean isIdle() {
+            return inStage.get() == 0;
+        }
+        
+        void stop() {
+            stopping = true;
+            workers.forEach(Thread::interrupt);
+            for (Thread worker : workers) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            List<Item> leftover = new ArrayList<>();
+            queue.drainTo(leftover);
+            inStage.addAndGet(-leftover.size());
+            leftover.forEach(item -> fail(item, new CancellationException("Pipeline shut down")));
+        }
+        
+        StageSnapshot snapshot(long elapsedNanos) {
+            return new StageSnapshot(name, threads, queue.size(), queueCapacity, busy.get(),
+                completed.get(), failed.get(), elapsedNanos, LatencySnapshot.of(serviceTime));
+        }
+    }
+}
\ No newline at end of file
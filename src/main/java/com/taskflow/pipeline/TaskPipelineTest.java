@@ -0,0 +1,184 @@
+package com.taskflow.pipeline;
+
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+public class TaskPipelineTest {
+    
+    public static void main(String[] args) {
+        TaskPipelineTest test = new TaskPipelineTest();
+        test.runAllTests();
+    }
+    
+    public void runAllTests() {
+        System.out.println("Running TaskPipeline Tests...\n");
+        
+        testStagesRunInOrderOnTheirOwnThreads();
+        testFailingStageCancelsTask();
+        testWorkersSurviveCancelledAndInterruptedTasks();
+        testWorkerSurvivesHandlerError();
+        
+        System.out.println("\n✓ All TaskPipeline tests passed!");
+    }
+    
+    private void testStagesRunInOrderOnTheirOwnThreads() {
+        System.out.println("Test: Stages Run In Order On Their Own Threads");
+        
+        Map<String, String> trail = new ConcurrentHashMap<>();
+        TaskPipeline pipeline = TaskPipeline.builder()
+            .stage("fetch", 4, 2, task -> trail.merge(task.getTaskId(), stageThread(), String::concat))
+            .stage("compute", 1, 2, task -> trail.merge(task.getTaskId(), stageThread(), String::concat))
+            .build();
+        
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(task("PIPE-" + i));
+        }
+        try {
+            pipeline.submitAll(tasks).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new AssertionError("Pipeline should complete every task: " + e);
+        }
+        
+        for (Task task : tasks) {
+            assertEqual(TaskStatus.COMPLETED, task.getStatus(), task.getTaskId() + " should be completed");
+            assertEqual("fetch>compute>", trail.get(task.getTaskId()), task.getTaskId() + " should pass both stages");
+        }
+        List<StageSnapshot> stages = pipeline.getStageSnapshots();
+        assertEqual(20L, stages.get(0).getCompleted(), "First stage should count every task");
+        assertEqual(20L, stages.get(1).getCompleted(), "Second stage should count every task");
+        assertEqual(0, stages.get(1).getQueueDepth(), "Queues should be empty");
+        pipeline.shutdown();
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testFailingStageCancelsTask() {
+        System.out.println("Test: Failing Stage Cancels Task");
+        
+        TaskPipeline pipeline = TaskPipeline.builder()
+            .stage("validate", 1, 4, task -> {
+                if (task.getTaskId().endsWith("BAD")) {
+                    throw new IllegalArgumentException("Rejected " + task.getTaskId());
+                }
+            })
+            .stage("store", 1, 4, task -> { })
+            .build();
+        Task good = task("PIPE-GOOD");
+        Task bad = task("PIPE-BAD");
+        CompletableFuture<Task> goodFuture = pipeline.submit(good);
+        CompletableFuture<Task> badFuture = pipeline.submit(bad);
+        
+        boolean failed = false;
+        try {
+            badFuture.get();
+        } catch (ExecutionException e) {
+            failed = e.getCause() instanceof IllegalArgumentException;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertEqual(true, failed, "Failing task's future should carry the handler's exception");
+        assertEqual(good, goodFuture.join(), "Other tasks should carry on");
+        assertEqual(TaskStatus.CANCELLED, bad.getStatus(), "Failed task should be cancelled");
+        assertEqual(1L, pipeline.getStageSnapshots().get(0).getFailed(), "Failure should be counted");
+        pipeline.shutdown();
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testWorkerSurvivesHandlerError() {
+        System.out.println("Test: Worker Survives Handler Error");
+        
+        TaskPipeline pipeline = TaskPipeline.builder()
+            .stage("only", 1, 4, task -> {
+                if (task.getTaskId().endsWith("ERROR")) {
+                    throw new StackOverflowError("Handler blew up on " + task.getTaskId());
+                }
+            })
+            .build();
+        Task broken = task("PIPE-ERROR");
+        Task after = task("PIPE-NEXT");
+        CompletableFuture<Task> brokenFuture = pipeline.submit(broken);
+        CompletableFuture<Task> afterFuture = pipeline.submit(after);
+        
+        boolean failed = false;
+        try {
+            brokenFuture.get();
+        } catch (ExecutionException e) {
+            failed = e.getCause() instanceof StackOverflowError;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertEqual(true, failed, "Future should carry the handler's error");
+        assertEqual(TaskStatus.CANCELLED, broken.getStatus(), "Task whose handler failed should be cancelled");
+        assertEqual(after, afterFuture.join(), "The only worker should go on to the next task");
+        assertEqual(TaskStatus.COMPLETED, after.getStatus(), "Next task should complete");
+        assertEqual(1L, pipeline.getStageSnapshots().get(0).getFailed(), "Error should be counted as a failure");
+        pipeline.shutdown();
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testWorkersSurviveCancelledAndInterruptedTasks() {
+        System.out.println("Test: Workers Survive Cancelled And Interrupted Tasks");
+        
+        TaskPipeline pipeline = TaskPipeline.builder()
+            .stage("only", 1, 4, task -> {
+                if (task.getTaskId().endsWith("CANCEL")) {
+                    task.updateStatus(TaskStatus.CANCELLED);
+                } else if (task.getTaskId().endsWith("INTERRUPT")) {
+                    throw new InterruptedException("Handler interrupted");
+                }
+            })
+            .build();
+        CompletableFuture<Task> cancelled = pipeline.submit(task("PIPE-CANCEL"));
+        CompletableFuture<Task> interrupted = pipeline.submit(task("PIPE-INTERRUPT"));
+        Task after = task("PIPE-AFTER");
+        CompletableFuture<Task> afterFuture = pipeline.submit(after);
+        
+        assertEqual(after, afterFuture.join(), "The single worker should still be running");
+        assertEqual(TaskStatus.COMPLETED, after.getStatus(), "Later task should complete");
+        assertEqual(true, cancelled.isCompletedExceptionally(), "Completing a cancelled task should fail its future");
+        assertEqual(true, interrupted.isCompletedExceptionally(), "Interrupted handler should fail its future");
+        assertEqual(2L, pipeline.getStageSnapshots().get(0).getFailed(), "Both failures should be counted");
+        pipeline.shutdown();
+        
+        boolean rejected = false;
+        try {
+            pipeline.submit(task("PIPE-LATE"));
+        } catch (RejectedExecutionException e) {
+            rejected = true;
+        }
+        assertEqual(true, rejected, "Submissions after shutdown should be rejected");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private String stageThread() {
+        String name = Thread.currentThread().getName();
+        return name.substring("taskflow-stage-".length(), name.lastIndexOf('-')) + ">";
+    }
+    
+    private Task task(String id) {
+        return Task.builder()
+            .taskId(id)
+            .title("Piped " + id)
+            .deadline(LocalDateTime.now().plusDays(1))
+            .build();
+    }
+    
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.taskflow.sorting;
+
+import com.taskflow.core.domain.Task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class ParallelTaskSorter extends TaskSorter {
+    
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 8_192;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    
+    public ParallelTaskSorter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+    
+    public ParallelTaskSorter(ForkJoinPool pool, int parallelThreshold) {
+        if (parallelThreshold < 2) {
+            throw new IllegalArgumentException("Parallel threshold must be at least 2: " + parallelThreshold);
+        }
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.parallelThreshold = parallelThreshold;
+    }
+    
+    @Override
+    public List<Task> sort(List<Task> tasks, Comparator<Task> comparator) {
+        Objects.requireNonNull(tasks, "Task list cannot be null");
+        Objects.requireNonNull(comparator, "Comparator cannot be null");
+        
+        List<Task> snapshot = new ArrayList<>(tasks);
+        if (snapshot.size() < 2) {
+            return snapshot;
+        }
+        return pool.invoke(new MergeSortTask(snapshot, comparator));
+    }
+    
+    private List<Task> sequentialSort(List<Task> tasks, Comparator<Task> comparator) {
+        if (tasks.size() <= INSERTION_SORT_THRESHOLD) {
+            return insertionSort(tasks, comparator);
+        }
+        int middle = tasks.size() / 2;
+        return mergeSortedLists(
+            sequentialSort(tasks.subList(0, middle), comparator),
+            sequentialSort(tasks.subList(middle, tasks.size()), comparator),
+            comparator);
+    }
+    
+    private List<Task> insertionSort(List<Task> tasks, Comparator<Task> comparator) {
+        List<Task> sorted = new ArrayList<>(tasks);
+        for (int i = 1; i < sorted.size(); i++) {
+            Task current = sorted.get(i);
+            int j = i - 1;
+            while (j >= 0 && comparator.compare(sorted.get(j), current) > 0) {
+                sorted.set(j + 1, sorted.get(j));
+                j--;
+            }
+            sorted.set(j + 1, current);
+        }
+        return sorted;
+    }
+    
+    private class MergeSortTask extends RecursiveTask<List<Task>> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final List<Task> tasks;
+        private final Comparator<Task> comparator;
+        
+        MergeSortTask(List<Task> tasks, Comparator<Task> comparator) {
+            this.tasks = tasks;
+            this.comparator = comparator;
+        }
+        
+        @Override
+        protected List<Task> compute() {
+            if (tasks.size() <= parallelThreshold) {
+                return sequentialSort(tasks, comparator);
+            }
+            
+            int middle = tasks.size() / 2;
+            MergeSortTask left = new MergeSortTask(tasks.subList(0, middle), comparator);
+            MergeSortTask right = new MergeSortTask(tasks.subList(middle, tasks.size()), comparator);
+            left.fork();
+            List<Task> rightSorted = right.compute();
+            return mergeSortedLists(left.join(), rightSorted, comparator);
+        }
+    }
+}
\ No newline at end of file
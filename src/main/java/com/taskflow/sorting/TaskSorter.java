@@ -46,8 +46,16 @@ public class TaskSorter {
         tasks.set(j, temp);
     }
     
+    public List<Task> topK(Iterable<Task> tasks, Comparator<Task> comparator, int k) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        
+        TopKSelector selector = new TopKSelector(comparator, k);
+        tasks.forEach(selector);
+        return selector.getResult();
+    }
+    
     public List<Task> mergeSortedLists(List<Task> list1, List<Task> list2, Comparator<Task> comparator) {
-        List<Task> merged = new ArrayList<>();
+        List<Task> merged = new ArrayList<>(list1.size() + list2.size());
         int i = 0, j = 0;
         
         while (i < list1.size() && j < list2.size()) {
@@ -4,8 +4,10 @@ import com.taskflow.core.domain.Priority;
 import com.taskflow.core.domain.Task;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class TaskSorterTest {
     
@@ -19,6 +21,8 @@ public class TaskSorterTest {
         
         testSortByPriority();
         testSortByDeadline();
+        testParallelSortIsStable();
+        testTopK();
         
         System.out.println("\n✓ All TaskSorter tests passed!");
     }
@@ -71,6 +75,62 @@ public class TaskSorterTest {
         System.out.println("  ✓ Passed\n");
     }
     
+    private void testParallelSortIsStable() {
+        System.out.println("Test: Parallel Sort Is Stable");
+        
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Task> byDeadline = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            byDeadline.add(Task.builder()
+                .taskId("SORT-" + i)
+                .title("Task " + i)
+                .priority(Priority.values()[i % Priority.values().length])
+                .deadline(base.plusMinutes(i))
+                .build());
+        }
+        
+        TaskSorter sorter = new ParallelTaskSorter(ForkJoinPool.commonPool(), 256);
+        List<Task> sorted = sorter.sort(byDeadline, TaskComparator.byPriority());
+        
+        assertEqual(byDeadline.size(), sorted.size(), "Sort should keep every task");
+        for (int i = 1; i < sorted.size(); i++) {
+            Task previous = sorted.get(i - 1);
+            Task current = sorted.get(i);
+            assertTrue(previous.getPriority().getLevel() >= current.getPriority().getLevel(),
+                "Tasks should be ordered by priority");
+            if (previous.getPriority() == current.getPriority()) {
+                assertTrue(previous.getDeadline().isBefore(current.getDeadline()),
+                    "Equal priorities should keep their input order");
+            }
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testTopK() {
+        System.out.println("Test: Top K");
+        
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            tasks.add(Task.builder()
+                .taskId("TOPK-" + i)
+                .title("Task " + i)
+                .deadline(base.plusMinutes((i * 7919L) % 1_000))
+                .build());
+        }
+        
+        TaskSorter sorter = new TaskSorter();
+        List<Task> top = sorter.topK(tasks, TaskComparator.byDeadline(), 5);
+        List<Task> full = sorter.sort(tasks, TaskComparator.byDeadline());
+        
+        assertEqual(5, top.size(), "Should keep exactly K tasks");
+        assertEqual(full.subList(0, 5), top, "Top K should match the head of a full sort");
+        assertEqual(0, sorter.topK(tasks, TaskComparator.byDeadline(), 0).size(), "K of 0 should be empty");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
     private void assertEqual(Object expected, Object actual, String message) {
         if (!expected.equals(actual)) {
             throw new AssertionError(message);
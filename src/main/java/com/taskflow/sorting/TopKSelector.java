@@ -0,0 +1,45 @@
+package com.taskflow.sorting;
+
+import com.taskflow.core.domain.Task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+public class TopKSelector implements Consumer<Task> {
+    
+    private final Comparator<Task> comparator;
+    private final int k;
+    private final PriorityQueue<Task> heap;
+    
+    public TopKSelector(Comparator<Task> comparator, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative: " + k);
+        }
+        this.comparator = Objects.requireNonNull(comparator, "Comparator cannot be null");
+        this.k = k;
+        this.heap = new PriorityQueue<>(Math.max(1, k), comparator.reversed());
+    }
+    
+    @Override
+    public void accept(Task task) {
+        if (k == 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.offer(task);
+        } else if (comparator.compare(task, heap.peek()) < 0) {
+            heap.poll();
+            heap.offer(task);
+        }
+    }
+    
+    public List<Task> getResult() {
+        List<Task> result = new ArrayList<>(heap);
+        result.sort(comparator);
+        return result;
+    }
+}
\ No newline at end of file
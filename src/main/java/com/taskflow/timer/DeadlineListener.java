@@ -0,0 +1,11 @@
+package com.taskflow.timer;
+
+import com.taskflow.core.domain.Task;
+
+// Runs on the timing wheel's ticker thread, so it must be quick: notifying an assignee
+// or escalating belongs on an executor of its own.
+@FunctionalInterface
+public interface DeadlineListener {
+    
+    void onDeadlinePassed(Task task);
+}
\ No newline at end of file
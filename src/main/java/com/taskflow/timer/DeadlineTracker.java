@@ -0,0 +1,160 @@
+package com.taskflow.timer;
+
+import com.taskflow.concurrency.RepositoryListener;
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Keeps one timer per active task of a repository and reacts when a deadline passes:
+// the task joins the overdue set and every DeadlineListener is called. Completing,
+// cancelling or removing a task cancels its timer, so nothing ever scans for overdue
+// work. Priority is fixed when a task is built, so escalation is up to a listener.
+public class DeadlineTracker implements RepositoryListener {
+    
+    private final ThreadSafeTaskRepository repository;
+    private final TimingWheel wheel;
+    private final Map<String, Tracked> timers;
+    private final Map<String, Task> overdue;
+    private final List<DeadlineListener> listeners;
+    
+    private DeadlineTracker(ThreadSafeTaskRepository repository, TimingWheel wheel) {
+        this.repository = repository;
+        this.wheel = wheel;
+        this.timers = new ConcurrentHashMap<>();
+        this.overdue = new ConcurrentHashMap<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+    }
+    
+    // Tasks already in the repository are tracked too; those past their deadline are
+    // reported on the wheel's next tick.
+    public static DeadlineTracker attach(ThreadSafeTaskRepository repository, TimingWheel wheel) {
+        Objects.requireNonNull(repository, "Repository cannot be null");
+        Objects.requireNonNull(wheel, "Timing wheel cannot be null");
+        DeadlineTracker tracker = new DeadlineTracker(repository, wheel);
+        repository.addListener(tracker);
+        repository.forEach(tracker::track);
+        return tracker;
+    }
+    
+    public void detach() {
+        repository.removeListener(this);
+        timers.values().forEach(Tracked::cancel);
+        timers.clear();
+    }
+    
+    public void addListener(DeadlineListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+    
+    public void removeListener(DeadlineListener listener) {
+        listeners.remove(listener);
+    }
+    
+    // Active tasks whose deadline has passed, without a scan of the repository.
+    public List<Task> getOverdueTasks() {
+        return new ArrayList<>(overdue.values());
+    }
+    
+    public int getOverdueCount() {
+        return overdue.size();
+    }
+    
+    // Active tasks still waiting for their deadline.
+    public int getTrackedCount() {
+        return timers.size();
+    }
+    
+    @Override
+    public void onTaskAdded(Task task) {
+        track(task);
+    }
+    
+    @Override
+    public void onTaskRemoved(Task task) {
+        untrack(task);
+    }
+    
+    @Override
+    public void onStatusChanged(Task task, TaskStatus previous, TaskStatus current) {
+        if (!current.isActive()) {
+            untrack(task);
+        } else if (!previous.isActive()) {
+            track(task);
+        }
+    }
+    
+    @Override
+    public void onCleared() {
+        timers.values().forEach(Tracked::cancel);
+        timers.clear();
+        overdue.clear();
+    }
+    
+    // A task untracked before its timer is set cancels the timer here instead.
+    private void track(Task task) {
+        if (!task.getStatus().isActive()) {
+            return;
+        }
+        Tracked tracked = new Tracked(task);
+        if (timers.putIfAbsent(task.getTaskId(), tracked) == null) {
+            long deadline = task.getDeadline().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            tracked.timeout = wheel.schedule(deadline, () -> expired(tracked));
+            if (timers.get(task.getTaskId()) != tracked) {
+                tracked.cancel();
+            }
+        }
+    }
+    
+    private void untrack(Task task) {
+        Tracked tracked = timers.remove(task.getTaskId());
+        if (tracked != null) {
+            tracked.cancel();
+        }
+        overdue.remove(task.getTaskId(), task);
+    }
+    
+    // Runs on the wheel's ticker, so it only consults the tracker's own map, never the
+    // repository and its lock. The entry is removed by untrack when its task is removed,
+    // replaced or finished; if that races with this, whichever side runs second takes
+    // the task back out of the overdue set.
+    private void expired(Tracked tracked) {
+        Task task = tracked.task;
+        String taskId = task.getTaskId();
+        if (timers.get(taskId) != tracked || !task.getStatus().isActive()) {
+            return;
+        }
+        overdue.put(taskId, task);
+        if (!timers.remove(taskId, tracked) || !task.getStatus().isActive()) {
+            overdue.remove(taskId, task);
+            return;
+        }
+        for (DeadlineListener listener : listeners) {
+            listener.onDeadlinePassed(task);
+        }
+    }
+    
+    private static final class Tracked {
+        
+        private final Task task;
+        private volatile Timeout timeout;
+        
+        Tracked(Task task) {
+            this.task = task;
+        }
+        
+        void cancel() {
+            Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.taskflow.timer;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+// Handle for one scheduled callback. It doubles as the node of its wheel bucket's
+// list, which only the ticker thread links and unlinks.
+public final class Timeout {
+    
+    private static final int PENDING = 0;
+    private static final int EXPIRED = 1;
+    private static final int CANCELLED = 2;
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+    
+    private final TimingWheel wheel;
+    private final long deadlineTick;
+    private final long deadlineMillis;
+    private final Runnable action;
+    private volatile int state;
+    
+    Timeout prev;
+    Timeout next;
+    
+    Timeout(TimingWheel wheel, long deadlineMillis, long deadlineTick, Runnable action) {
+        this.wheel = wheel;
+        this.deadlineMillis = deadlineMillis;
+        this.deadlineTick = deadlineTick;
+        this.action = action;
+    }
+    
+    // False if the callback already ran or was cancelled before.
+    public boolean cancel() {
+        if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+            return false;
+        }
+        wheel.cancelled(this);
+        return true;
+    }
+    
+    public boolean isExpired() {
+        return state == EXPIRED;
+    }
+    
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+    
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+    
+    long getDeadlineTick() {
+        return deadlineTick;
+    }
+    
+    boolean isPending() {
+        return state == PENDING;
+    }
+    
+    boolean isLinked() {
+        return next != null;
+    }
+    
+    // Runs on the ticker thread; only the first of expire and cancel wins.
+    boolean expire() {
+        if (!STATE.compareAndSet(this, PENDING, EXPIRED)) {
+            return false;
+        }
+        action.run();
+        return true;
+    }
+}
\ No newline at end of file
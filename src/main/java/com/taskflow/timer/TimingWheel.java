@@ -0,0 +1,224 @@
+package com.taskflow.timer;
+
+import com.taskflow.util.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Hashed hierarchical timing wheel (Varghese and Lauck) driven by one ticker thread.
+// Level 0 has one bucket per tick; each level above covers wheelSize times the span
+// of the one below, and its buckets cascade down when the level below wraps around.
+// Scheduling and cancelling are O(1) from any thread: both go through a queue that
+// the ticker drains at the start of each tick, so the bucket lists need no locks.
+// Callbacks run on the ticker thread and must be quick; anything slow belongs on an
+// executor of its own. Firing is accurate to one tick, never early.
+public class TimingWheel implements AutoCloseable {
+    
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+    
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final List<Timeout[]> levels;
+    private final Queue<Timeout> scheduled;
+    private final Queue<Timeout> cancelled;
+    private final AtomicLong pending;
+    private final Thread ticker;
+    private volatile boolean running;
+    private long currentTick;
+    
+    public TimingWheel() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+    
+    public TimingWheel(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = new ArrayList<>();
+        this.scheduled = new ConcurrentLinkedQueue<>();
+        this.cancelled = new ConcurrentLinkedQueue<>();
+        this.pending = new AtomicLong();
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+        this.running = true;
+        this.ticker = new Thread(this::tickLoop, "taskflow-timing-wheel");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+    
+    // A deadline already in the past fires on the next tick.
+    public Timeout schedule(long deadlineMillis, Runnable action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        if (!running) {
+            throw new IllegalStateException("Timing wheel is stopped");
+        }
+        // Rounded up so that a timer never fires before its deadline.
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        Timeout timeout = new Timeout(this, deadlineMillis, deadlineTick, action);
+        pending.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+    
+    public Timeout scheduleAfter(long delay, TimeUnit unit, Runnable action) {
+        return schedule(System.currentTimeMillis() + unit.toMillis(delay), action);
+    }
+    
+    // Timers scheduled and neither fired nor cancelled yet.
+    public long getPendingCount() {
+        return pending.get();
+    }
+    
+    public long getTickMillis() {
+        return tickMillis;
+    }
+    
+    // Stops the ticker; timers still pending never fire.
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+        try {
+            ticker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    void cancelled(Timeout timeout) {
+        pending.decrementAndGet();
+        cancelled.add(timeout);
+    }
+    
+    private void tickLoop() {
+        while (running) {
+            long now = System.currentTimeMillis();
+            long target = now / tickMillis;
+            drainScheduled();
+            drainCancelled();
+            // Catches up tick by tick after a stall, so cascades are never skipped.
+            while (currentTick < target) {
+                currentTick++;
+                advance();
+            }
+            long nextTickAt = (currentTick + 1) * tickMillis;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.max(1, nextTickAt - now)));
+        }
+    }
+    
+    private void drainScheduled() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.isPending()) {
+                place(timeout);
+            }
+        }
+    }
+    
+    private void drainCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.isLinked()) {
+                unlink(timeout);
+            }
+        }
+    }
+    
+    // Cascades every level whose lower neighbour just wrapped, highest first, then
+    // fires the level 0 bucket for the current tick.
+    private void advance() {
+        int wrapped = 0;
+        while (wrapped + 1 < levels.size() && (currentTick & ((1L << (bits * (wrapped + 1))) - 1)) == 0) {
+            wrapped++;
+        }
+        for (int level = wrapped; level >= 1; level--) {
+            Timeout head = bucket(level, currentTick);
+            Timeout timeout = head.next;
+            while (timeout != head) {
+                Timeout next = timeout.next;
+                unlink(timeout);
+                place(timeout);
+                timeout = next;
+            }
+        }
+        if (levels.isEmpty()) {
+            return;
+        }
+        Timeout head = bucket(0, currentTick);
+        Timeout timeout = head.next;
+        while (timeout != head) {
+            Timeout next = timeout.next;
+            unlink(timeout);
+            fire(timeout);
+            timeout = next;
+        }
+    }
+    
+    // Level k holds timers due within wheelSize^(k+1) ticks, in the bucket for bits
+    // k*log2(wheelSize) and up of their deadline tick.
+    private void place(Timeout timeout) {
+        long delta = timeout.getDeadlineTick() - currentTick;
+        if (delta <= 0) {
+            fire(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < 63 / bits && (delta >>> (bits * (level + 1))) != 0) {
+            level++;
+        }
+        while (levels.size() <= level) {
+            levels.add(newLevel());
+        }
+        Timeout head = bucket(level, timeout.getDeadlineTick());
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+    
+    private void fire(Timeout timeout) {
+        try {
+            if (timeout.expire()) {
+                pending.decrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            Logger.error("Timer callback failed", e);
+        }
+    }
+    
+    private Timeout bucket(int level, long tick) {
+        return levels.get(level)[(int) ((tick >>> (bits * level)) & mask)];
+    }
+    
+    private Timeout[] newLevel() {
+        Timeout[] buckets = new Timeout[mask + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            Timeout head = new Timeout(this, 0, 0, null);
+            head.prev = head;
+            head.next = head;
+            buckets[i] = head;
+        }
+        return buckets;
+    }
+    
+    private static void unlink(Timeout timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+}
\ No newline at end of file
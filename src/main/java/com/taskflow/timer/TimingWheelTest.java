@@ -0,0 +1,116 @@
+package com.taskflow.timer;
+
+import com.taskflow.concurrency.ThreadSafeTaskRepository;
+import com.taskflow.core.domain.Task;
+import com.taskflow.core.domain.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class TimingWheelTest {
+    
+    public static void main(String[] args) {
+        TimingWheelTest test = new TimingWheelTest();
+        test.runAllTests();
+    }
+    
+    public void runAllTests() {
+        System.out.println("Running TimingWheel Tests...\n");
+        
+        testFiresInDeadlineOrderAcrossLevels();
+        testTrackerReportsOnlyActiveTasks();
+        
+        System.out.println("\n✓ All TimingWheel tests passed!");
+    }
+    
+    // A four-slot wheel with 1ms ticks puts these timers three levels up, so they only
+    // fire on time if every cascade works.
+    private void testFiresInDeadlineOrderAcrossLevels() {
+        System.out.println("Test: Fires In Deadline Order Across Levels");
+        
+        try (TimingWheel wheel = new TimingWheel(1, 4)) {
+            long start = System.currentTimeMillis();
+            long[] delays = {90, 3, 45, 17, 70};
+            List<Long> fired = new CopyOnWriteArrayList<>();
+            List<Long> early = new CopyOnWriteArrayList<>();
+            for (long delay : delays) {
+                wheel.schedule(start + delay, () -> {
+                    if (System.currentTimeMillis() < start + delay) {
+                        early.add(delay);
+                    }
+                    fired.add(delay);
+                });
+            }
+            Timeout cancelled = wheel.schedule(start + 60, () -> fired.add(60L));
+            assertEqual(true, cancelled.cancel(), "Pending timer should cancel");
+            
+            awaitCount(fired, delays.length);
+            Thread.sleep(20);
+            assertEqual(List.of(3L, 17L, 45L, 70L, 90L), List.copyOf(fired), "Timers should fire in deadline order");
+            assertEqual(List.of(), List.copyOf(early), "No timer should fire before its deadline");
+            assertEqual(0L, wheel.getPendingCount(), "Nothing should be left pending");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for timers");
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testTrackerReportsOnlyActiveTasks() {
+        System.out.println("Test: Tracker Reports Only Active Tasks");
+        
+        ThreadSafeTaskRepository repo = new ThreadSafeTaskRepository();
+        try (TimingWheel wheel = new TimingWheel(5, 64)) {
+            repo.addTask(task("DUE-EARLY", 40));
+            DeadlineTracker tracker = DeadlineTracker.attach(repo, wheel);
+            List<String> reported = new CopyOnWriteArrayList<>();
+            tracker.addListener(task -> reported.add(task.getTaskId()));
+            repo.addTask(task("DUE-DONE", 40));
+            repo.addTask(task("DUE-GONE", 40));
+            repo.addTask(task("DUE-LATER", 60_000));
+            assertEqual(4, tracker.getTrackedCount(), "Every active task should have a timer");
+            
+            repo.findById("DUE-DONE").orElseThrow().updateStatus(TaskStatus.COMPLETED);
+            repo.removeTask("DUE-GONE");
+            assertEqual(2, tracker.getTrackedCount(), "Finished and removed tasks should lose their timer");
+            
+            awaitCount(reported, 1);
+            Thread.sleep(50);
+            assertEqual(List.of("DUE-EARLY"), List.copyOf(reported), "Only the active overdue task is reported");
+            assertEqual(1, tracker.getOverdueCount(), "It should be in the overdue set");
+            
+            repo.findById("DUE-EARLY").orElseThrow().updateStatus(TaskStatus.COMPLETED);
+            assertEqual(0, tracker.getOverdueCount(), "Completing it clears it from the overdue set");
+            assertEqual(1, tracker.getTrackedCount(), "The later task is still waiting");
+            tracker.detach();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for timers");
+        }
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void awaitCount(List<?> list, int count) throws InterruptedException {
+        long giveUpAt = System.currentTimeMillis() + 5_000;
+        while (list.size() < count && System.currentTimeMillis() < giveUpAt) {
+            Thread.sleep(5);
+        }
+    }
+    
+    private Task task(String id, long dueInMillis) {
+        return Task.builder()
+            .taskId(id)
+            .title("Timed " + id)
+            .deadline(LocalDateTime.now().plusNanos(dueInMillis * 1_000_000))
+            .build();
+    }
+    
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.taskflow.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+final class AsyncLogWriter {
+    
+    private static final int MAX_BATCH = 1_024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    
+    private final Writer writer;
+    private final DateTimeFormatter formatter;
+    private final LogOverflowPolicy overflowPolicy;
+    
+    // Bounded multi-producer/single-consumer ring: a producer claims a slot by CAS on
+    // tail, writes it, then publishes by advancing the slot's sequence number.
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail;
+    private long head;
+    
+    private final AtomicLong dropped;
+    private final AtomicInteger appending;
+    private final Thread writerThread;
+    private volatile boolean running;
+    
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+    
+    AsyncLogWriter(Writer writer, DateTimeFormatter formatter, int capacity, LogOverflowPolicy overflowPolicy) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.writer = writer;
+        this.formatter = formatter;
+        this.overflowPolicy = overflowPolicy;
+        this.slots = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.tail = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.appending = new AtomicInteger();
+        this.running = true;
+        this.writerThread = new Thread(this::drainLoop, "taskflow-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+    
+    // False once close() has begun: the event was not taken and the caller has to write
+    // it some other way. An event that is taken is written before close() returns.
+    boolean append(String level, String message) {
+        appending.incrementAndGet();
+        try {
+            if (!running) {
+                return false;
+            }
+            LogEvent event = new LogEvent(System.currentTimeMillis(), level, message);
+            while (!offer(event)) {
+                if (!running) {
+                    return false;
+                }
+                if (overflowPolicy == LogOverflowPolicy.DROP) {
+                    dropped.incrementAndGet();
+                    return true;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            return true;
+        } finally {
+            appending.decrementAndGet();
+        }
+    }
+    
+    long getDroppedCount() {
+        return dropped.get();
+    }
+    
+    // Stops accepting work, waits for appends already past the running check to publish
+    // their events, then lets the writer thread drain and flush. Whatever it exited
+    // without seeing is written here, with this thread as the only consumer left. The
+    // underlying writer stays open.
+    void close() {
+        running = false;
+        while (appending.get() > 0) {
+            Thread.onSpinWait();
+        }
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        StringBuilder rest = new StringBuilder();
+        LogEvent event;
+        while ((event = poll()) != null) {
+            format(event, rest);
+        }
+        if (rest.length() > 0) {
+            write(rest);
+        }
+    }
+    
+    private boolean offer(LogEvent event) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = event;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+    
+    private LogEvent poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        LogEvent event = (LogEvent) slots[index];
+        slots[index] = null;
+        sequences.set(index, head + slots.length);
+        head++;
+        return event;
+    }
+    
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder(8_192);
+        while (true) {
+            boolean stopping = !running;
+            int drained = 0;
+            LogEvent event;
+            while (drained < MAX_BATCH && (event = poll()) != null) {
+                format(event, batch);
+                drained++;
+            }
+            
+            if (drained > 0) {
+                write(batch);
+                batch.setLength(0);
+            } else if (stopping && tail.get() == head) {
+                return;
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+    
+    private void format(LogEvent event, StringBuilder batch) {
+        if (event.level == null) {
+            batch.append(event.message);
+            return;
+        }
+        batch.append('[').append(timestamp(event.timestampMillis)).append("] [")
+            .append(event.level).append("] ")
+            .append(event.message).append(System.lineSeparator());
+    }
+    
+    private String timestamp(long timestampMillis) {
+        long second = timestampMillis / 1_000;
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTimestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault())
+                .format(formatter);
+        }
+        return cachedTimestamp;
+    }
+    
+    private void write(StringBuilder batch) {
+        try {
+            writer.append(batch);
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Failed to write log batch: " + e.getMessage());
+        }
+    }
+    
+    private static final class LogEvent {
+        private final long timestampMillis;
+        private final String level;
+        private final String message;
+        
+        LogEvent(long timestampMillis, String level, String message) {
+            this.timestampMillis = timestampMillis;
+            this.level = level;
+            this.message = message;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.taskflow.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncLogWriterTest {
+    
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    
+    public static void main(String[] args) {
+        AsyncLogWriterTest test = new AsyncLogWriterTest();
+        test.runAllTests();
+    }
+    
+    public void runAllTests() {
+        System.out.println("Running AsyncLogWriter Tests...\n");
+        
+        testCloseFlushesEveryAcceptedEvent();
+        testDropPolicyCountsDroppedEvents();
+        
+        System.out.println("\n✓ All AsyncLogWriter tests passed!");
+    }
+    
+    private void testCloseFlushesEveryAcceptedEvent() {
+        System.out.println("Test: Close Flushes Every Accepted Event");
+        
+        StringWriter output = new StringWriter();
+        AsyncLogWriter writer = new AsyncLogWriter(output, FORMATTER, 64, LogOverflowPolicy.BLOCK);
+        AtomicLong accepted = new AtomicLong();
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int producer = t;
+            Thread thread = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 50_000; i++) {
+                    if (!writer.append("INFO", "producer " + producer + " event " + i)) {
+                        return;
+                    }
+                    accepted.incrementAndGet();
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        await(started);
+        writer.close();
+        joinAll(producers);
+        
+        assertEqual(false, writer.append("INFO", "too late"), "Appends after close should be refused");
+        assertEqual(accepted.get(), lines(output.toString()), "Every accepted event should be written by close");
+        assertEqual(0L, writer.getDroppedCount(), "The blocking policy should not drop");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private void testDropPolicyCountsDroppedEvents() {
+        System.out.println("Test: Drop Policy Counts Dropped Events");
+        
+        CountDownLatch release = new CountDownLatch(1);
+        StringWriter output = new StringWriter();
+        Writer stalled = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                await(release);
+                output.write(buffer, offset, length);
+            }
+            
+            @Override
+            public void flush() {
+            }
+            
+            @Override
+            public void close() throws IOException {
+                output.close();
+            }
+        };
+        AsyncLogWriter writer = new AsyncLogWriter(stalled, FORMATTER, 8, LogOverflowPolicy.DROP);
+        for (int i = 0; i < 1_000; i++) {
+            assertEqual(true, writer.append("INFO", "event " + i), "Dropped events still count as handled");
+        }
+        release.countDown();
+        writer.close();
+        
+        long dropped = writer.getDroppedCount();
+        assertEqual(true, dropped > 0, "A stalled writer should make the ring overflow");
+        assertEqual(1_000L, lines(output.toString()) + dropped, "Every event should be written or counted as dropped");
+        
+        System.out.println("  ✓ Passed\n");
+    }
+    
+    private long lines(String text) {
+        return text.isEmpty() ? 0 : text.split(System.lineSeparator()).length;
+    }
+    
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void joinAll(List<Thread> threads) {
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void assertEqual(Object expected, Object actual, String message) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+}
\ No newline at end of file
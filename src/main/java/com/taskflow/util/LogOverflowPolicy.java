@@ -0,0 +1,16 @@
+package com.taskflow.util;
+
+public enum LogOverflowPolicy {
+    BLOCK("Wait for space in the buffer"),
+    DROP("Discard the event and count it");
+    
+    private final String description;
+    
+    LogOverflowPolicy(String description) {
+        this.description = description;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+}
\ No newline at end of file
@@ -12,6 +12,7 @@ public final class Logger {
     private static final String LOG_FILE = "logs.txt";
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static BufferedWriter writer;
+    private static volatile AsyncLogWriter asyncWriter;
     
     static {
         initializeLogFile();
@@ -71,7 +72,42 @@ public final class Logger {
         log("DEBUG", message);
     }
     
-    private static synchronized void log(String level, String message) {
+    // Switches file output to a background writer fed through a bounded lock-free ring
+    // buffer. Console output stays synchronous. Capacity must be a power of two.
+    public static synchronized void enableAsync(int capacity, LogOverflowPolicy overflowPolicy) {
+        if (writer == null || asyncWriter != null) {
+            return;
+        }
+        asyncWriter = new AsyncLogWriter(writer, FORMATTER, capacity, overflowPolicy);
+    }
+    
+    public static synchronized void disableAsync() {
+        AsyncLogWriter current = asyncWriter;
+        if (current != null) {
+            asyncWriter = null;
+            current.close();
+        }
+    }
+    
+    public static long getDroppedCount() {
+        AsyncLogWriter current = asyncWriter;
+        return current != null ? current.getDroppedCount() : 0;
+    }
+    
+    // A writer read here may be closing; it then refuses the event and the synchronous
+    // path takes over, waiting on the monitor until disableAsync() has finished.
+    private static void log(String level, String message) {
+        AsyncLogWriter current = asyncWriter;
+        if (current == null || !current.append(level, message)) {
+            writeSync(level, message);
+        }
+    }
+    
+    private static synchronized void writeSync(String level, String message) {
+        AsyncLogWriter current = asyncWriter;
+        if (current != null && current.append(level, message)) {
+            return;
+        }
         try {
             String timestamp = LocalDateTime.now().format(FORMATTER);
             String logLine = String.format("[%s] [%s] %s%n", timestamp, level, message);
@@ -87,12 +123,25 @@ public final class Logger {
     }
     
     private static void logStackTrace(Throwable throwable) {
+        StringBuilder trace = new StringBuilder("Stack trace:\n");
+        for (StackTraceElement element : throwable.getStackTrace()) {
+            trace.append("    at ").append(element).append("\n");
+        }
+        trace.append("\n");
+        
+        AsyncLogWriter current = asyncWriter;
+        if (current == null || !current.append(null, trace.toString())) {
+            writeRawSync(trace.toString());
+        }
+    }
+    
+    private static synchronized void writeRawSync(String text) {
+        AsyncLogWriter current = asyncWriter;
+        if (current != null && current.append(null, text)) {
+            return;
+        }
         try {
-            writer.write("Stack trace:\n");
-            for (StackTraceElement element : throwable.getStackTrace()) {
-                writer.write("    at " + element.toString() + "\n");
-            }
-            writer.write("\n");
+            writer.write(text);
             writer.flush();
         } catch (IOException e) {
             System.err.println("Failed to log stack trace: " + e.getMessage());
@@ -103,6 +152,7 @@ public final class Logger {
         try {
             if (writer != null) {
                 log("INFO", "Logger shutdown");
+                disableAsync();
                 writer.close();
             }
         } catch (IOException e) {